@@ -0,0 +1,138 @@
+package hexlet.code.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.protobuf.DtoProtobufCodec;
+import hexlet.code.config.JacksonConfig;
+import hexlet.code.dto.task.TaskDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encoding and decoding a task listing as JSON, Smile, CBOR and protobuf.
+ * <p>
+ * Run with {@code ./gradlew jmh}. The payload size of each format is printed once per trial, as JMH
+ * only reports times; the {@code gc} profiler adds the allocation per listing.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinaryFormatsBenchmark {
+    private static final TypeReference<List<TaskDTO>> TASK_LIST = new TypeReference<>() { };
+
+    @Param({"100", "10000"})
+    private int size;
+
+    @Param({"json", "smile", "cbor", "protobuf"})
+    private String format;
+
+    private List<TaskDTO> tasks;
+    private Format codec;
+    private byte[] payload;
+
+    /**
+     * Builds the listing, the codec of the format and the payload to decode.
+     *
+     * @throws IOException if encoding fails.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        tasks = new ArrayList<>(size);
+        for (var i = 0; i < size; i++) {
+            var task = new TaskDTO();
+            task.setId((long) i);
+            task.setIndex(i);
+            task.setCreatedAt(LocalDate.of(2024, 1, 1).plusDays(i % 365));
+            task.setAssigneeId(i % 3 == 0 ? null : (long) i % 50);
+            task.setTitle("Task " + i);
+            task.setContent(i % 2 == 0 ? null : "Content of the task number " + i);
+            task.setStatus("to_review");
+            task.setTaskLabelIds(List.of((long) i % 7, (long) i % 11));
+            tasks.add(task);
+        }
+        codec = switch (format) {
+            case "json" -> jackson(JacksonConfig.objectMapperBuilder(true).build());
+            case "smile" -> jackson(JacksonConfig.objectMapperBuilder(true).smile().build());
+            case "cbor" -> jackson(JacksonConfig.objectMapperBuilder(true).cbor().build());
+            case "protobuf" -> protobuf(new DtoProtobufCodec());
+            default -> throw new IllegalArgumentException(format);
+        };
+        payload = codec.encode(tasks);
+        System.out.printf("%n%s, %d tasks: %d bytes%n", format, size, payload.length);
+    }
+
+    /**
+     * Encodes the listing.
+     *
+     * @return the payload.
+     * @throws IOException if encoding fails.
+     */
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return codec.encode(tasks);
+    }
+
+    /**
+     * Decodes the listing.
+     *
+     * @return the tasks.
+     * @throws IOException if decoding fails.
+     */
+    @Benchmark
+    public List<TaskDTO> decode() throws IOException {
+        return codec.decode(payload);
+    }
+
+    private static Format jackson(ObjectMapper mapper) {
+        var writer = mapper.writerFor(TASK_LIST);
+        var reader = mapper.readerFor(TASK_LIST);
+        return new Format() {
+            @Override
+            public byte[] encode(List<TaskDTO> tasks) throws IOException {
+                return writer.writeValueAsBytes(tasks);
+            }
+
+            @Override
+            public List<TaskDTO> decode(byte[] payload) throws IOException {
+                return reader.readValue(payload);
+            }
+        };
+    }
+
+    private static Format protobuf(DtoProtobufCodec protobuf) {
+        return new Format() {
+            @Override
+            public byte[] encode(List<TaskDTO> tasks) throws IOException {
+                var output = new ByteArrayOutputStream();
+                protobuf.writeList(tasks, TaskDTO.class, output);
+                return output.toByteArray();
+            }
+
+            @Override
+            public List<TaskDTO> decode(byte[] payload) throws IOException {
+                return protobuf.readList(new ByteArrayInputStream(payload), TaskDTO.class);
+            }
+        };
+    }
+
+    private interface Format {
+        byte[] encode(List<TaskDTO> tasks) throws IOException;
+
+        List<TaskDTO> decode(byte[] payload) throws IOException;
+    }
+}
@@ -0,0 +1,80 @@
+package hexlet.code.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import hexlet.code.config.JacksonConfig;
+import hexlet.code.dto.task.TaskDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing a task listing with the reflective bean serializers and with the hand-written ones.
+ * <p>
+ * Run with {@code ./gradlew jmh}; the {@code gc} profiler reports the allocation per listing next to the time.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoSerializationBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private List<TaskDTO> tasks;
+    private ObjectWriter reflective;
+    private ObjectWriter handWritten;
+
+    /**
+     * Builds the listing and both writers.
+     */
+    @Setup
+    public void setUp() {
+        tasks = new ArrayList<>(size);
+        for (var i = 0; i < size; i++) {
+            var task = new TaskDTO();
+            task.setId((long) i);
+            task.setIndex(i);
+            task.setCreatedAt(LocalDate.of(2024, 1, 1).plusDays(i % 365));
+            task.setAssigneeId(i % 3 == 0 ? null : (long) i % 50);
+            task.setTitle("Task " + i);
+            task.setContent(i % 2 == 0 ? null : "Content of the task number " + i);
+            task.setStatus("to_review");
+            task.setTaskLabelIds(List.of((long) i % 7, (long) i % 11));
+            tasks.add(task);
+        }
+        reflective = JacksonConfig.objectMapperBuilder(false).build().writer();
+        handWritten = JacksonConfig.objectMapperBuilder(true).build().writer();
+    }
+
+    /**
+     * Writes the listing with the bean serializers.
+     *
+     * @throws Exception if writing fails.
+     */
+    @Benchmark
+    public void reflective() throws Exception {
+        reflective.writeValue(OutputStream.nullOutputStream(), tasks);
+    }
+
+    /**
+     * Writes the listing with the hand-written serializers.
+     *
+     * @throws Exception if writing fails.
+     */
+    @Benchmark
+    public void handWritten() throws Exception {
+        handWritten.writeValue(OutputStream.nullOutputStream(), tasks);
+    }
+}
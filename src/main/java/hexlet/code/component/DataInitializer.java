@@ -1,6 +1,7 @@
 package hexlet.code.component;
 
 
+import hexlet.code.component.reference.TaskReferenceResolver;
 import hexlet.code.dto.task.TaskCreateDTO;
 import hexlet.code.dto.task.label.LabelCreateDTO;
 import hexlet.code.dto.task.status.TaskStatusCreateDTO;
@@ -28,6 +29,7 @@ import java.util.List;
 @Component
 @AllArgsConstructor
 public final class DataInitializer implements ApplicationRunner {
+    private static final String TEST_USER_EMAIL = "hexlet@example.com";
 
     private final LabelRepository labelRepository;
     private final LabelMapper labelMapper;
@@ -37,6 +39,7 @@ public final class DataInitializer implements ApplicationRunner {
     private TaskStatusMapper taskStatusMapper;
     private TaskStatusRepository taskStatusRepository;
     private TaskMapper taskMapper;
+    private TaskReferenceResolver taskReferenceResolver;
 
 
     @Override
@@ -54,7 +57,7 @@ public final class DataInitializer implements ApplicationRunner {
 
     private Task createTestTask() {
         var taskCreateDTO = new TaskCreateDTO();
-        taskCreateDTO.setAssigneeId(1L);
+        taskCreateDTO.setAssigneeId(userRepository.findByEmail(TEST_USER_EMAIL).map(User::getId).orElse(null));
 
         var testStatus = new TaskStatusCreateDTO();
         testStatus.setName("Test");
@@ -64,7 +67,7 @@ public final class DataInitializer implements ApplicationRunner {
         taskCreateDTO.setTitle("test title");
         taskCreateDTO.setIndex(12);
         taskCreateDTO.setContent("test content");
-        return taskMapper.map(taskCreateDTO);
+        return taskMapper.map(taskCreateDTO, taskReferenceResolver.resolve(List.of(taskCreateDTO)));
     }
 
     private void saveTestUser() {
@@ -74,7 +77,7 @@ public final class DataInitializer implements ApplicationRunner {
 
     private User createTestUser() {
         var adminCreateDTO = new UserCreateDTO();
-        adminCreateDTO.setEmail("hexlet@example.com");
+        adminCreateDTO.setEmail(TEST_USER_EMAIL);
         adminCreateDTO.setPassword("qwerty");
         var model = userMapper.map(adminCreateDTO);
         return model;
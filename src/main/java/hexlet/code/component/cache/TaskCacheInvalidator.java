@@ -0,0 +1,56 @@
+package hexlet.code.component.cache;
+
+import hexlet.code.config.CacheConfig;
+import lombok.AllArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Clears the task list caches whenever a task, or a status rendered into tasks, changes.
+ * <p>
+ * Called by {@link TaskCacheInvalidatorListener} on every entity write, which also catches writes made
+ * directly through the repositories. Inside a transaction the caches are cleared after it completes,
+ * so a concurrent reader cannot put the pre-commit state back into the cache.
+ * </p>
+ */
+@Component
+@AllArgsConstructor
+public final class TaskCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Clears the task list caches, after the current transaction if there is one.
+     */
+    public void evictAll() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            clearCaches();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        // One clear per transaction is enough, however many tasks it writes.
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TaskCacheInvalidator.this);
+                clearCaches();
+            }
+        });
+    }
+
+    private void clearCaches() {
+        Stream.of(CacheConfig.TASK_LISTS, CacheConfig.TASK_COUNTS)
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .forEach(Cache::clear);
+    }
+}
@@ -0,0 +1,32 @@
+package hexlet.code.component.cache;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Entity listener clearing the task list caches whenever a task, or a status rendered into tasks, changes.
+ * <p>
+ * Hibernate creates its own listener instances through the Spring bean container, so this class holds no
+ * state and delegates to the {@link TaskCacheInvalidator} singleton, which clears once per transaction.
+ * </p>
+ */
+@AllArgsConstructor
+public final class TaskCacheInvalidatorListener {
+
+    private final ObjectProvider<TaskCacheInvalidator> cacheInvalidator;
+
+    /**
+     * Clears the task list caches after an entity has been written.
+     *
+     * @param entity the written entity.
+     */
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(Object entity) {
+        cacheInvalidator.getObject().evictAll();
+    }
+}
@@ -0,0 +1,150 @@
+package hexlet.code.component.cache;
+
+import hexlet.code.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory index of the task statuses by slug.
+ * <p>
+ * Statuses number in the dozens and rarely change, so all of them are loaded with one query on first use
+ * and kept as an immutable map of detached copies. Task writes take the status from here and only store
+ * its id, and status filters compare the {@code task_statuses_id} column instead of joining the statuses.
+ * </p>
+ * <p>
+ * {@link TaskStatusRegistryListener} is registered on {@link TaskStatus}, so any status write, through the
+ * service or directly through the repository, drops the map once its transaction completes; the next lookup
+ * reloads it. A load that raced with such a write is discarded rather than published.
+ * </p>
+ */
+@Component
+@AllArgsConstructor
+public final class TaskStatusRegistry {
+
+    private final EntityManager entityManager;
+
+    private final AtomicReference<Map<String, TaskStatus>> statuses = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Returns a task status by its slug.
+     * <p>
+     * The returned instance is a detached copy shared between callers, to be used as a reference only.
+     * A slug missing from the map, such as a status created earlier in the current transaction,
+     * is looked up in the database.
+     * </p>
+     *
+     * @param slug the status slug, may be {@code null}.
+     * @return the status, or {@code null} if the slug is {@code null} or unknown.
+     */
+    public TaskStatus find(String slug) {
+        if (slug == null) {
+            return null;
+        }
+        var found = findAll(List.of(slug));
+        return found.isEmpty() ? null : found.getFirst();
+    }
+
+    /**
+     * Returns the task statuses with the given slugs, like {@link #find(String)} but with one query
+     * for all the slugs missing from the map.
+     *
+     * @param slugs the status slugs, without {@code null}.
+     * @return the known statuses, in no particular order.
+     */
+    public List<TaskStatus> findAll(Collection<String> slugs) {
+        var known = statuses();
+        var result = new ArrayList<TaskStatus>();
+        var missing = new ArrayList<String>();
+        slugs.forEach(slug -> {
+            var status = known.get(slug);
+            if (status != null) {
+                result.add(status);
+            } else {
+                missing.add(slug);
+            }
+        });
+        if (!missing.isEmpty()) {
+            entityManager.createQuery("select s from TaskStatus s where s.slug in :slugs", TaskStatus.class)
+                    .setParameter("slugs", missing)
+                    .getResultStream()
+                    .map(TaskStatusRegistry::copyOf)
+                    .forEach(result::add);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the id of a task status by its slug.
+     *
+     * @param slug the status slug, may be {@code null}.
+     * @return the status id, or {@code null} if the slug is {@code null} or unknown.
+     */
+    public Long findId(String slug) {
+        var status = find(slug);
+        return status == null ? null : status.getId();
+    }
+
+    /**
+     * Drops the index once the current transaction completes, or at once outside a transaction.
+     */
+    public void invalidate() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            clear();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                clear();
+            }
+        });
+    }
+
+    private Map<String, TaskStatus> statuses() {
+        var current = statuses.get();
+        if (current != null) {
+            return current;
+        }
+        var loadedAt = generation.get();
+        var loaded = entityManager.createQuery("select s from TaskStatus s", TaskStatus.class)
+                .getResultStream()
+                .map(TaskStatusRegistry::copyOf)
+                .collect(Collectors.toUnmodifiableMap(TaskStatus::getSlug, Function.identity()));
+        synchronized (generation) {
+            if (generation.get() == loadedAt) {
+                statuses.set(loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private void clear() {
+        synchronized (generation) {
+            generation.incrementAndGet();
+            statuses.set(null);
+        }
+    }
+
+    private static TaskStatus copyOf(TaskStatus status) {
+        var copy = new TaskStatus();
+        copy.setId(status.getId());
+        copy.setName(status.getName());
+        copy.setSlug(status.getSlug());
+        copy.setCreatedAt(status.getCreatedAt());
+        copy.setVersion(status.getVersion());
+        return copy;
+    }
+}
@@ -0,0 +1,33 @@
+package hexlet.code.component.cache;
+
+import hexlet.code.model.TaskStatus;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Entity listener invalidating the {@link TaskStatusRegistry} whenever a task status is written.
+ * <p>
+ * Hibernate creates its own listener instances through the Spring bean container, so this class holds no
+ * state and looks the registry singleton up on the first event.
+ * </p>
+ */
+@AllArgsConstructor
+public final class TaskStatusRegistryListener {
+
+    private final ObjectProvider<TaskStatusRegistry> taskStatusRegistry;
+
+    /**
+     * Invalidates the registry after a status has been written.
+     *
+     * @param status the written status.
+     */
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(TaskStatus status) {
+        taskStatusRegistry.getObject().invalidate();
+    }
+}
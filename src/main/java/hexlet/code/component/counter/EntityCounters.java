@@ -0,0 +1,100 @@
+package hexlet.code.component.counter;
+
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Row counters per entity type, used for the {@code X-Total-Count} header of the unfiltered list endpoints.
+ * <p>
+ * A counter is loaded with a {@code count} query the first time it is read. Afterwards it moves with every
+ * committed insert and delete reported by {@link EntityCountersListener}, so reads are served from memory.
+ * Writes that bypass the persistence context, such as bulk statements, are corrected by
+ * {@link #reconcile()}, which periodically reloads every counter from the database.
+ * </p>
+ */
+@Log4j2
+@Component
+@AllArgsConstructor
+public final class EntityCounters {
+
+    private final EntityManager entityManager;
+
+    private final Map<Class<?>, LongAdder> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the number of rows of an entity type.
+     *
+     * @param entityClass the entity type.
+     * @return the current number of rows.
+     */
+    public long get(Class<?> entityClass) {
+        return counters.computeIfAbsent(entityClass, this::load).sum();
+    }
+
+    /**
+     * Adjusts the counter of an entity type once the current transaction commits.
+     * <p>
+     * Counters that have not been loaded yet are left alone, since their first load reads the committed rows.
+     * </p>
+     *
+     * @param entityClass the entity type.
+     * @param delta       the number of inserted rows, negative for deleted ones.
+     */
+    public void adjust(Class<?> entityClass, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(entityClass, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(entityClass, delta);
+            }
+        });
+    }
+
+    /**
+     * Reloads every loaded counter from the database.
+     */
+    @Scheduled(fixedDelayString = "${counters.reconcile-interval:PT5M}",
+            initialDelayString = "${counters.reconcile-interval:PT5M}")
+    public void reconcile() {
+        counters.forEach((entityClass, counter) -> {
+            var actual = count(entityClass);
+            var drift = actual - counter.sum();
+            if (drift != 0) {
+                counter.add(drift);
+                log.warn("{} counter drifted by {}", entityClass.getSimpleName(), drift);
+            }
+        });
+    }
+
+    private void add(Class<?> entityClass, long delta) {
+        var counter = counters.get(entityClass);
+        if (counter != null) {
+            counter.add(delta);
+        }
+    }
+
+    private LongAdder load(Class<?> entityClass) {
+        var counter = new LongAdder();
+        counter.add(count(entityClass));
+        return counter;
+    }
+
+    private long count(Class<?> entityClass) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(Long.class);
+        query.select(cb.count(query.from(entityClass)));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,42 @@
+package hexlet.code.component.counter;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import lombok.AllArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Entity listener moving the {@link EntityCounters} with every insert and delete.
+ * <p>
+ * Hibernate creates its own instance of a listener through the Spring bean container, so the counters
+ * cannot be the listener themselves: the adjustments would land in a second instance that is never read.
+ * This class holds no state and looks the singleton up on the first event, which also keeps the
+ * {@code EntityManager} out of the listener while the persistence unit is still being built.
+ * </p>
+ */
+@AllArgsConstructor
+public final class EntityCountersListener {
+
+    private final ObjectProvider<EntityCounters> entityCounters;
+
+    /**
+     * Counts an inserted entity.
+     *
+     * @param entity the persisted entity.
+     */
+    @PostPersist
+    public void onPersist(Object entity) {
+        entityCounters.getObject().adjust(Hibernate.getClass(entity), 1);
+    }
+
+    /**
+     * Counts a deleted entity.
+     *
+     * @param entity the removed entity.
+     */
+    @PostRemove
+    public void onRemove(Object entity) {
+        entityCounters.getObject().adjust(Hibernate.getClass(entity), -1);
+    }
+}
@@ -0,0 +1,115 @@
+package hexlet.code.component.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Data source recording, per request handler, how long connections are waited for and held.
+ * <p>
+ * Publishes the {@code jdbc.connections.acquire} and {@code jdbc.connections.held} timers tagged with the
+ * {@code pool} and the {@code handler}, the controller method serving the current request, or {@code none}
+ * outside of requests. Pool-wide active, idle and pending counts come from the Hikari metrics.
+ * </p>
+ */
+public final class InstrumentedDataSource extends DelegatingDataSource implements AutoCloseable {
+    private static final String NO_HANDLER = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final String pool;
+
+    /**
+     * Wraps a data source.
+     *
+     * @param target        the data source handing out the connections.
+     * @param pool          the pool name used as tag.
+     * @param meterRegistry the registry of the timers.
+     */
+    public InstrumentedDataSource(DataSource target, String pool, MeterRegistry meterRegistry) {
+        super(target);
+        this.pool = pool;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        var handler = currentHandler();
+        var start = System.nanoTime();
+        var connection = obtainTargetDataSource().getConnection();
+        return instrument(connection, handler, start);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        var handler = currentHandler();
+        var start = System.nanoTime();
+        var connection = obtainTargetDataSource().getConnection(username, password);
+        return instrument(connection, handler, start);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection instrument(Connection connection, String handler, long start) {
+        var acquired = System.nanoTime();
+        timer("jdbc.connections.acquire", handler).record(acquired - start, TimeUnit.NANOSECONDS);
+        var held = timer("jdbc.connections.held", handler);
+        var closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals" -> {
+                            return proxy == args[0];
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                        case "close" -> {
+                            if (closed.compareAndSet(false, true)) {
+                                held.record(System.nanoTime() - acquired, TimeUnit.NANOSECONDS);
+                            }
+                        }
+                        default -> {
+                        }
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    private Timer timer(String name, String handler) {
+        return Timer.builder(name)
+                .tag("pool", pool)
+                .tag("handler", handler)
+                .register(meterRegistry);
+    }
+
+    private static String currentHandler() {
+        var attributes = RequestContextHolder.getRequestAttributes();
+        var handler = attributes == null ? null
+                : attributes.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                        RequestAttributes.SCOPE_REQUEST);
+        return handler instanceof HandlerMethod method
+                ? method.getBeanType().getSimpleName() + "." + method.getMethod().getName()
+                : NO_HANDLER;
+    }
+}
@@ -0,0 +1,90 @@
+package hexlet.code.component.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Data source sending read-only transactions to the replicas and everything else to the primary.
+ * <p>
+ * The target is picked when a transaction first touches the database, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}; by then the transaction
+ * manager has published the read-only flag. Replicas are used round robin. A user whose write committed
+ * less than the read-your-writes window ago keeps reading from the primary, so replica lag never hides
+ * their own changes from them.
+ * </p>
+ */
+public final class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA_PREFIX = "replica-";
+
+    private final List<DataSource> replicas;
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Cache<String, Boolean> recentWriters;
+
+    /**
+     * Creates the routing data source.
+     *
+     * @param primary              the data source taking the writes.
+     * @param replicas             the data sources taking the read-only transactions.
+     * @param readYourWritesWindow how long a user's reads stay on the primary after their last write.
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration readYourWritesWindow) {
+        this.replicas = List.copyOf(replicas);
+        var targets = new HashMap<Object, Object>();
+        targets.put(PRIMARY, primary);
+        for (var i = 0; i < replicas.size(); i++) {
+            replicaKeys.add(REPLICA_PREFIX + i);
+            targets.put(REPLICA_PREFIX + i, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        recentWriters = Caffeine.newBuilder().expireAfterWrite(readYourWritesWindow).build();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        var user = currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (user != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recentWriters.put(user, Boolean.TRUE);
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+        if (replicaKeys.isEmpty() || (user != null && recentWriters.getIfPresent(user) != null)) {
+            return PRIMARY;
+        }
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (var replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static String currentUser() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || !authentication.isAuthenticated() ? null : authentication.getName();
+    }
+}
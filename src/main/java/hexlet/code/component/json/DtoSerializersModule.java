@@ -0,0 +1,27 @@
+package hexlet.code.component.json;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.task.label.LabelDTO;
+import hexlet.code.dto.task.status.TaskStatusDTO;
+import hexlet.code.dto.user.UserDTO;
+
+/**
+ * Jackson module with hand-written serializers for the DTOs returned by the API.
+ * <p>
+ * The bean serializer introspects every DTO class and reads each property through reflection, which
+ * dominates the cost of large listings. These serializers call the getters directly and produce the same
+ * bytes, including the {@code NON_NULL} inclusion and the {@code yyyy-MM-dd} dates, so clients cannot tell
+ * the difference. When a DTO gains a field, its serializer has to be updated as well.
+ * </p>
+ */
+public final class DtoSerializersModule extends SimpleModule {
+
+    public DtoSerializersModule() {
+        super(DtoSerializersModule.class.getSimpleName());
+        addSerializer(TaskDTO.class, new TaskDTOSerializer());
+        addSerializer(UserDTO.class, new UserDTOSerializer());
+        addSerializer(LabelDTO.class, new LabelDTOSerializer());
+        addSerializer(TaskStatusDTO.class, new TaskStatusDTOSerializer());
+    }
+}
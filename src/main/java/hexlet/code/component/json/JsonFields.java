@@ -0,0 +1,62 @@
+package hexlet.code.component.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Field writers shared by the DTO serializers.
+ * <p>
+ * Each writer skips {@code null} values, as the {@code NON_NULL} inclusion of the application
+ * {@link com.fasterxml.jackson.databind.ObjectMapper} does, and writes the value with the same generator call
+ * as the serializer Jackson would pick for its type.
+ * </p>
+ */
+final class JsonFields {
+    static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private JsonFields() {
+    }
+
+    static void writeNumber(JsonGenerator generator, String name, Long value) throws IOException {
+        if (value != null) {
+            generator.writeNumberField(name, value.longValue());
+        }
+    }
+
+    static void writeNumber(JsonGenerator generator, String name, Integer value) throws IOException {
+        if (value != null) {
+            generator.writeNumberField(name, value.intValue());
+        }
+    }
+
+    static void writeString(JsonGenerator generator, String name, String value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(name, value);
+        }
+    }
+
+    static void writeDate(JsonGenerator generator, String name, LocalDate value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(name, value.format(DATE_FORMAT));
+        }
+    }
+
+    static void writeNumbers(JsonGenerator generator, String name, List<Long> values) throws IOException {
+        if (values == null) {
+            return;
+        }
+        generator.writeArrayFieldStart(name);
+        for (var value : values) {
+            if (value == null) {
+                generator.writeNull();
+            } else {
+                generator.writeNumber(value.longValue());
+            }
+        }
+        generator.writeEndArray();
+    }
+}
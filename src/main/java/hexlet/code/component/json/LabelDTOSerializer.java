@@ -0,0 +1,27 @@
+package hexlet.code.component.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import hexlet.code.dto.task.label.LabelDTO;
+
+import java.io.IOException;
+
+/**
+ * Serializer of {@link LabelDTO}, writing the fields in declaration order.
+ */
+public final class LabelDTOSerializer extends StdSerializer<LabelDTO> {
+
+    public LabelDTOSerializer() {
+        super(LabelDTO.class);
+    }
+
+    @Override
+    public void serialize(LabelDTO label, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(label);
+        JsonFields.writeNumber(generator, "id", label.getId());
+        JsonFields.writeString(generator, "name", label.getName());
+        JsonFields.writeDate(generator, "createdAt", label.getCreatedAt());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,37 @@
+package hexlet.code.component.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import hexlet.code.dto.task.TaskDTO;
+
+import java.io.IOException;
+
+/**
+ * Serializer of {@link TaskDTO}.
+ * <p>
+ * Writes the fields in the order the bean serializer does: declaration order, except that Jackson moves
+ * the renamed {@code assignee_id} after the others. The version is ignored, as it is sent in the
+ * {@code ETag} header.
+ * </p>
+ */
+public final class TaskDTOSerializer extends StdSerializer<TaskDTO> {
+
+    public TaskDTOSerializer() {
+        super(TaskDTO.class);
+    }
+
+    @Override
+    public void serialize(TaskDTO task, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(task);
+        JsonFields.writeNumber(generator, "id", task.getId());
+        JsonFields.writeNumber(generator, "index", task.getIndex());
+        JsonFields.writeDate(generator, "createdAt", task.getCreatedAt());
+        JsonFields.writeString(generator, "title", task.getTitle());
+        JsonFields.writeString(generator, "content", task.getContent());
+        JsonFields.writeString(generator, "status", task.getStatus());
+        JsonFields.writeNumbers(generator, "taskLabelIds", task.getTaskLabelIds());
+        JsonFields.writeNumber(generator, "assignee_id", task.getAssigneeId());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,29 @@
+package hexlet.code.component.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import hexlet.code.dto.task.status.TaskStatusDTO;
+
+import java.io.IOException;
+
+/**
+ * Serializer of {@link TaskStatusDTO}, writing the fields in declaration order.
+ */
+public final class TaskStatusDTOSerializer extends StdSerializer<TaskStatusDTO> {
+
+    public TaskStatusDTOSerializer() {
+        super(TaskStatusDTO.class);
+    }
+
+    @Override
+    public void serialize(TaskStatusDTO status, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject(status);
+        JsonFields.writeNumber(generator, "id", status.getId());
+        JsonFields.writeString(generator, "name", status.getName());
+        JsonFields.writeString(generator, "slug", status.getSlug());
+        JsonFields.writeDate(generator, "createdAt", status.getCreatedAt());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,29 @@
+package hexlet.code.component.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import hexlet.code.dto.user.UserDTO;
+
+import java.io.IOException;
+
+/**
+ * Serializer of {@link UserDTO}, writing the fields in declaration order.
+ */
+public final class UserDTOSerializer extends StdSerializer<UserDTO> {
+
+    public UserDTOSerializer() {
+        super(UserDTO.class);
+    }
+
+    @Override
+    public void serialize(UserDTO user, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(user);
+        JsonFields.writeNumber(generator, "id", user.getId());
+        JsonFields.writeString(generator, "email", user.getEmail());
+        JsonFields.writeString(generator, "firstName", user.getFirstName());
+        JsonFields.writeString(generator, "lastName", user.getLastName());
+        JsonFields.writeDate(generator, "createdAt", user.getCreatedAt());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,28 @@
+package hexlet.code.component.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "datasource-routing")
+@Setter
+@Getter
+public class DataSourceRoutingProperties {
+    private boolean enabled;
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Setter
+    @Getter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
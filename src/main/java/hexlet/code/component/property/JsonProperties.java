@@ -0,0 +1,14 @@
+package hexlet.code.component.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "json")
+@Setter
+@Getter
+public class JsonProperties {
+    private boolean dtoSerializers = true;
+}
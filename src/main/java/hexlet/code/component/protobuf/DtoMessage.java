@@ -0,0 +1,41 @@
+package hexlet.code.component.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+/**
+ * Protobuf encoding of one DTO type, following its message in {@code dtos.proto}.
+ *
+ * @param <T> the DTO type.
+ */
+interface DtoMessage<T> {
+
+    /**
+     * Returns the encoded size of a DTO, needed to prefix it with its length inside a list.
+     *
+     * @param dto the DTO.
+     * @return the size in bytes.
+     */
+    int size(T dto);
+
+    /**
+     * Writes the fields of a DTO.
+     *
+     * @param dto the DTO.
+     * @param output the stream to write to.
+     * @throws IOException if writing fails.
+     */
+    void write(T dto, CodedOutputStream output) throws IOException;
+
+    /**
+     * Reads the fields of a DTO up to the end of the stream or of the current limit.
+     * Unknown fields are skipped.
+     *
+     * @param input the stream to read from.
+     * @return the DTO.
+     * @throws IOException if the input is malformed.
+     */
+    T read(CodedInputStream input) throws IOException;
+}
@@ -0,0 +1,128 @@
+package hexlet.code.component.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.task.label.LabelDTO;
+import hexlet.code.dto.task.status.TaskStatusDTO;
+import hexlet.code.dto.user.UserDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Protobuf codec of the DTOs returned by the API, following {@code proto/dtos.proto}.
+ * <p>
+ * The messages are encoded by hand with the protobuf runtime rather than through classes generated by
+ * {@code protoc}, so the DTOs stay the only model of the API and no copy into generated messages is needed.
+ * A single DTO is written as its message, and a list as the matching {@code ...List} message, whose items
+ * are the repeated field {@code 1}. When a DTO gains a field, its message and the schema have to be updated
+ * as well.
+ * </p>
+ */
+public final class DtoProtobufCodec {
+    private static final int ITEMS = 1;
+
+    private final Map<Class<?>, DtoMessage<?>> messages = Map.of(
+            TaskDTO.class, new TaskDTOMessage(),
+            UserDTO.class, new UserDTOMessage(),
+            LabelDTO.class, new LabelDTOMessage(),
+            TaskStatusDTO.class, new TaskStatusDTOMessage());
+
+    /**
+     * Tells whether a type has a protobuf message.
+     *
+     * @param type the DTO type.
+     * @return {@code true} if values of the type can be encoded.
+     */
+    public boolean supports(Class<?> type) {
+        return messages.containsKey(type);
+    }
+
+    /**
+     * Writes a single DTO.
+     *
+     * @param dto the DTO.
+     * @param type the DTO type.
+     * @param output the stream to write to, left open.
+     * @param <T> the DTO type.
+     * @throws IOException if writing fails.
+     */
+    public <T> void write(T dto, Class<T> type, OutputStream output) throws IOException {
+        var coded = CodedOutputStream.newInstance(output);
+        message(type).write(dto, coded);
+        coded.flush();
+    }
+
+    /**
+     * Writes a list of DTOs.
+     *
+     * @param dtos the DTOs, without {@code null} elements.
+     * @param type the DTO type.
+     * @param output the stream to write to, left open.
+     * @param <T> the DTO type.
+     * @throws IOException if writing fails.
+     */
+    public <T> void writeList(List<? extends T> dtos, Class<T> type, OutputStream output) throws IOException {
+        var message = message(type);
+        var coded = CodedOutputStream.newInstance(output);
+        for (var dto : dtos) {
+            coded.writeTag(ITEMS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            coded.writeUInt32NoTag(message.size(dto));
+            message.write(dto, coded);
+        }
+        coded.flush();
+    }
+
+    /**
+     * Reads a single DTO.
+     *
+     * @param input the stream to read from.
+     * @param type the DTO type.
+     * @param <T> the DTO type.
+     * @return the DTO.
+     * @throws IOException if the input is malformed.
+     */
+    public <T> T read(InputStream input, Class<T> type) throws IOException {
+        return message(type).read(CodedInputStream.newInstance(input));
+    }
+
+    /**
+     * Reads a list of DTOs.
+     *
+     * @param input the stream to read from.
+     * @param type the DTO type.
+     * @param <T> the DTO type.
+     * @return the DTOs, in the order they were written.
+     * @throws IOException if the input is malformed.
+     */
+    public <T> List<T> readList(InputStream input, Class<T> type) throws IOException {
+        var message = message(type);
+        var coded = CodedInputStream.newInstance(input);
+        var dtos = new ArrayList<T>();
+        for (var tag = coded.readTag(); tag != 0; tag = coded.readTag()) {
+            if (WireFormat.getTagFieldNumber(tag) != ITEMS) {
+                coded.skipField(tag);
+                continue;
+            }
+            var limit = coded.pushLimit(coded.readRawVarint32());
+            dtos.add(message.read(coded));
+            coded.popLimit(limit);
+        }
+        return dtos;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> DtoMessage<T> message(Class<T> type) {
+        var message = (DtoMessage<T>) messages.get(type);
+        if (message == null) {
+            throw new IllegalArgumentException("No protobuf message for " + type.getName());
+        }
+        return message;
+    }
+}
@@ -0,0 +1,88 @@
+package hexlet.code.component.protobuf;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Writes the API DTOs, and lists of them, as {@code application/x-protobuf} with {@link DtoProtobufCodec}.
+ * <p>
+ * The converter is write-only: request bodies are create and update DTOs, which have no protobuf message.
+ * Whether a response is a list is taken from the declared return type, such as
+ * {@code ResponseEntity<List<TaskDTO>>}, since the element type of a list value is erased.
+ * </p>
+ */
+public final class DtoProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private final DtoProtobufCodec codec;
+
+    public DtoProtobufHttpMessageConverter(DtoProtobufCodec codec) {
+        super(PROTOBUF);
+        this.codec = codec;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return codec.supports(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return canWrite(mediaType) && dtoType(type, clazz) != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+        var dtoType = dtoType(type, value.getClass());
+        var body = outputMessage.getBody();
+        if (value instanceof List<?> list) {
+            codec.writeList(list, (Class<Object>) dtoType, body);
+        } else {
+            codec.write(value, (Class<Object>) dtoType, body);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        return readInternal(null, inputMessage);
+    }
+
+    /**
+     * Resolves the DTO type of a response body.
+     *
+     * @param type the declared body type, may be {@code null}.
+     * @param clazz the class of the body value.
+     * @return the DTO type for a DTO or a list of DTOs, or {@code null} if the body has no protobuf message.
+     */
+    private Class<?> dtoType(Type type, Class<?> clazz) {
+        var resolvable = type != null ? ResolvableType.forType(type) : ResolvableType.forClass(clazz);
+        var resolved = resolvable.resolve(clazz);
+        if (codec.supports(resolved)) {
+            return resolved;
+        }
+        if (List.class.isAssignableFrom(resolved)) {
+            var element = resolvable.as(List.class).getGeneric(0).resolve();
+            return element != null && codec.supports(element) ? element : null;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,45 @@
+package hexlet.code.component.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import hexlet.code.dto.task.label.LabelDTO;
+
+import java.io.IOException;
+
+/**
+ * Protobuf encoding of {@link LabelDTO} as the {@code Label} message.
+ */
+final class LabelDTOMessage implements DtoMessage<LabelDTO> {
+    private static final int ID = 1;
+    private static final int NAME = 2;
+    private static final int CREATED_AT = 3;
+
+    @Override
+    public int size(LabelDTO label) {
+        return ProtobufFields.sizeInt64(ID, label.getId())
+                + ProtobufFields.sizeString(NAME, label.getName())
+                + ProtobufFields.sizeDate(CREATED_AT, label.getCreatedAt());
+    }
+
+    @Override
+    public void write(LabelDTO label, CodedOutputStream output) throws IOException {
+        ProtobufFields.writeInt64(output, ID, label.getId());
+        ProtobufFields.writeString(output, NAME, label.getName());
+        ProtobufFields.writeDate(output, CREATED_AT, label.getCreatedAt());
+    }
+
+    @Override
+    public LabelDTO read(CodedInputStream input) throws IOException {
+        var label = new LabelDTO();
+        for (var tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case ID -> label.setId(input.readInt64());
+                case NAME -> label.setName(input.readString());
+                case CREATED_AT -> label.setCreatedAt(ProtobufFields.readDate(input));
+                default -> input.skipField(tag);
+            }
+        }
+        return label;
+    }
+}
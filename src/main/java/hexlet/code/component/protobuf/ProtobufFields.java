@@ -0,0 +1,140 @@
+package hexlet.code.component.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Field sizes, writers and readers shared by the DTO messages.
+ * <p>
+ * Each size and writer skips {@code null} values, so an absent field decodes back to {@code null},
+ * the way {@code optional} fields of {@code dtos.proto} behave. Dates are days since the epoch.
+ * </p>
+ */
+final class ProtobufFields {
+
+    private ProtobufFields() {
+    }
+
+    static int sizeInt64(int field, Long value) {
+        return value == null ? 0 : CodedOutputStream.computeInt64Size(field, value);
+    }
+
+    static int sizeSInt32(int field, Integer value) {
+        return value == null ? 0 : CodedOutputStream.computeSInt32Size(field, value);
+    }
+
+    static int sizeString(int field, String value) {
+        return value == null ? 0 : CodedOutputStream.computeStringSize(field, value);
+    }
+
+    static int sizeDate(int field, LocalDate value) {
+        return value == null ? 0 : CodedOutputStream.computeInt32Size(field, epochDay(value));
+    }
+
+    static int sizePacked(int field, List<Long> values) {
+        if (values == null) {
+            return 0;
+        }
+        var dataSize = packedDataSize(values);
+        return CodedOutputStream.computeTagSize(field) + CodedOutputStream.computeUInt32SizeNoTag(dataSize) + dataSize;
+    }
+
+    static void writeInt64(CodedOutputStream output, int field, Long value) throws IOException {
+        if (value != null) {
+            output.writeInt64(field, value);
+        }
+    }
+
+    static void writeSInt32(CodedOutputStream output, int field, Integer value) throws IOException {
+        if (value != null) {
+            output.writeSInt32(field, value);
+        }
+    }
+
+    static void writeString(CodedOutputStream output, int field, String value) throws IOException {
+        if (value != null) {
+            output.writeString(field, value);
+        }
+    }
+
+    static void writeDate(CodedOutputStream output, int field, LocalDate value) throws IOException {
+        if (value != null) {
+            output.writeInt32(field, epochDay(value));
+        }
+    }
+
+    /**
+     * Writes a packed repeated {@code int64} field.
+     * <p>
+     * An empty list is still written, as a field of length zero, which {@link DtoProtobufCodec} reads back
+     * as an empty list rather than {@code null}. Other proto3 decoders treat an empty repeated field
+     * and an absent one alike, so clients must not rely on the difference. Protobuf has no null elements;
+     * they are left out.
+     * </p>
+     *
+     * @param output the stream to write to.
+     * @param field the field number.
+     * @param values the values, may be {@code null}.
+     * @throws IOException if writing fails.
+     */
+    static void writePacked(CodedOutputStream output, int field, List<Long> values) throws IOException {
+        if (values == null) {
+            return;
+        }
+        output.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        output.writeUInt32NoTag(packedDataSize(values));
+        for (var value : values) {
+            if (value != null) {
+                output.writeInt64NoTag(value);
+            }
+        }
+    }
+
+    static LocalDate readDate(CodedInputStream input) throws IOException {
+        return LocalDate.ofEpochDay(input.readInt32());
+    }
+
+    /**
+     * Reads one occurrence of a repeated {@code int64} field into a list created on first use.
+     * Both the packed and the unpacked encodings are accepted, as the protobuf specification requires.
+     *
+     * @param input the stream, positioned after the tag.
+     * @param tag the tag that was read.
+     * @param values the values read so far, or {@code null}.
+     * @return the values with this occurrence appended.
+     * @throws IOException if the input is malformed.
+     */
+    static List<Long> readInt64s(CodedInputStream input, int tag, List<Long> values) throws IOException {
+        var result = values == null ? new ArrayList<Long>() : values;
+        if (WireFormat.getTagWireType(tag) != WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+            result.add(input.readInt64());
+            return result;
+        }
+        var limit = input.pushLimit(input.readRawVarint32());
+        while (input.getBytesUntilLimit() > 0) {
+            result.add(input.readInt64());
+        }
+        input.popLimit(limit);
+        return result;
+    }
+
+    private static int packedDataSize(List<Long> values) {
+        var size = 0;
+        for (var value : values) {
+            if (value != null) {
+                size += CodedOutputStream.computeInt64SizeNoTag(value);
+            }
+        }
+        return size;
+    }
+
+    private static int epochDay(LocalDate value) {
+        return Math.toIntExact(value.toEpochDay());
+    }
+}
@@ -0,0 +1,67 @@
+package hexlet.code.component.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import hexlet.code.dto.task.TaskDTO;
+
+import java.io.IOException;
+
+/**
+ * Protobuf encoding of {@link TaskDTO} as the {@code Task} message. The version is not sent,
+ * as in the JSON representation.
+ */
+final class TaskDTOMessage implements DtoMessage<TaskDTO> {
+    private static final int ID = 1;
+    private static final int INDEX = 2;
+    private static final int CREATED_AT = 3;
+    private static final int ASSIGNEE_ID = 4;
+    private static final int TITLE = 5;
+    private static final int CONTENT = 6;
+    private static final int STATUS = 7;
+    private static final int TASK_LABEL_IDS = 8;
+
+    @Override
+    public int size(TaskDTO task) {
+        return ProtobufFields.sizeInt64(ID, task.getId())
+                + ProtobufFields.sizeSInt32(INDEX, task.getIndex())
+                + ProtobufFields.sizeDate(CREATED_AT, task.getCreatedAt())
+                + ProtobufFields.sizeInt64(ASSIGNEE_ID, task.getAssigneeId())
+                + ProtobufFields.sizeString(TITLE, task.getTitle())
+                + ProtobufFields.sizeString(CONTENT, task.getContent())
+                + ProtobufFields.sizeString(STATUS, task.getStatus())
+                + ProtobufFields.sizePacked(TASK_LABEL_IDS, task.getTaskLabelIds());
+    }
+
+    @Override
+    public void write(TaskDTO task, CodedOutputStream output) throws IOException {
+        ProtobufFields.writeInt64(output, ID, task.getId());
+        ProtobufFields.writeSInt32(output, INDEX, task.getIndex());
+        ProtobufFields.writeDate(output, CREATED_AT, task.getCreatedAt());
+        ProtobufFields.writeInt64(output, ASSIGNEE_ID, task.getAssigneeId());
+        ProtobufFields.writeString(output, TITLE, task.getTitle());
+        ProtobufFields.writeString(output, CONTENT, task.getContent());
+        ProtobufFields.writeString(output, STATUS, task.getStatus());
+        ProtobufFields.writePacked(output, TASK_LABEL_IDS, task.getTaskLabelIds());
+    }
+
+    @Override
+    public TaskDTO read(CodedInputStream input) throws IOException {
+        var task = new TaskDTO();
+        for (var tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case ID -> task.setId(input.readInt64());
+                case INDEX -> task.setIndex(input.readSInt32());
+                case CREATED_AT -> task.setCreatedAt(ProtobufFields.readDate(input));
+                case ASSIGNEE_ID -> task.setAssigneeId(input.readInt64());
+                case TITLE -> task.setTitle(input.readString());
+                case CONTENT -> task.setContent(input.readString());
+                case STATUS -> task.setStatus(input.readString());
+                case TASK_LABEL_IDS -> task.setTaskLabelIds(
+                        ProtobufFields.readInt64s(input, tag, task.getTaskLabelIds()));
+                default -> input.skipField(tag);
+            }
+        }
+        return task;
+    }
+}
@@ -0,0 +1,49 @@
+package hexlet.code.component.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import hexlet.code.dto.task.status.TaskStatusDTO;
+
+import java.io.IOException;
+
+/**
+ * Protobuf encoding of {@link TaskStatusDTO} as the {@code TaskStatus} message.
+ */
+final class TaskStatusDTOMessage implements DtoMessage<TaskStatusDTO> {
+    private static final int ID = 1;
+    private static final int NAME = 2;
+    private static final int SLUG = 3;
+    private static final int CREATED_AT = 4;
+
+    @Override
+    public int size(TaskStatusDTO status) {
+        return ProtobufFields.sizeInt64(ID, status.getId())
+                + ProtobufFields.sizeString(NAME, status.getName())
+                + ProtobufFields.sizeString(SLUG, status.getSlug())
+                + ProtobufFields.sizeDate(CREATED_AT, status.getCreatedAt());
+    }
+
+    @Override
+    public void write(TaskStatusDTO status, CodedOutputStream output) throws IOException {
+        ProtobufFields.writeInt64(output, ID, status.getId());
+        ProtobufFields.writeString(output, NAME, status.getName());
+        ProtobufFields.writeString(output, SLUG, status.getSlug());
+        ProtobufFields.writeDate(output, CREATED_AT, status.getCreatedAt());
+    }
+
+    @Override
+    public TaskStatusDTO read(CodedInputStream input) throws IOException {
+        var status = new TaskStatusDTO();
+        for (var tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case ID -> status.setId(input.readInt64());
+                case NAME -> status.setName(input.readString());
+                case SLUG -> status.setSlug(input.readString());
+                case CREATED_AT -> status.setCreatedAt(ProtobufFields.readDate(input));
+                default -> input.skipField(tag);
+            }
+        }
+        return status;
+    }
+}
@@ -0,0 +1,53 @@
+package hexlet.code.component.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import hexlet.code.dto.user.UserDTO;
+
+import java.io.IOException;
+
+/**
+ * Protobuf encoding of {@link UserDTO} as the {@code User} message.
+ */
+final class UserDTOMessage implements DtoMessage<UserDTO> {
+    private static final int ID = 1;
+    private static final int EMAIL = 2;
+    private static final int FIRST_NAME = 3;
+    private static final int LAST_NAME = 4;
+    private static final int CREATED_AT = 5;
+
+    @Override
+    public int size(UserDTO user) {
+        return ProtobufFields.sizeInt64(ID, user.getId())
+                + ProtobufFields.sizeString(EMAIL, user.getEmail())
+                + ProtobufFields.sizeString(FIRST_NAME, user.getFirstName())
+                + ProtobufFields.sizeString(LAST_NAME, user.getLastName())
+                + ProtobufFields.sizeDate(CREATED_AT, user.getCreatedAt());
+    }
+
+    @Override
+    public void write(UserDTO user, CodedOutputStream output) throws IOException {
+        ProtobufFields.writeInt64(output, ID, user.getId());
+        ProtobufFields.writeString(output, EMAIL, user.getEmail());
+        ProtobufFields.writeString(output, FIRST_NAME, user.getFirstName());
+        ProtobufFields.writeString(output, LAST_NAME, user.getLastName());
+        ProtobufFields.writeDate(output, CREATED_AT, user.getCreatedAt());
+    }
+
+    @Override
+    public UserDTO read(CodedInputStream input) throws IOException {
+        var user = new UserDTO();
+        for (var tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case ID -> user.setId(input.readInt64());
+                case EMAIL -> user.setEmail(input.readString());
+                case FIRST_NAME -> user.setFirstName(input.readString());
+                case LAST_NAME -> user.setLastName(input.readString());
+                case CREATED_AT -> user.setCreatedAt(ProtobufFields.readDate(input));
+                default -> input.skipField(tag);
+            }
+        }
+        return user;
+    }
+}
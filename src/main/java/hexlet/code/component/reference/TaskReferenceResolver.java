@@ -0,0 +1,135 @@
+package hexlet.code.component.reference;
+
+import hexlet.code.component.cache.TaskStatusRegistry;
+import hexlet.code.dto.task.TaskCreateDTO;
+import hexlet.code.dto.task.TaskUpdateDTO;
+import hexlet.code.model.Label;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.AllArgsConstructor;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Loads everything the tasks of one request refer to before they are mapped.
+ * <p>
+ * The status slugs, user ids and label ids of all tasks are collected first and loaded with at most
+ * one query per type; statuses come from the {@link TaskStatusRegistry}, which queries only the slugs
+ * it lacks. A single write takes its assignee as an {@link EntityManager#getReference} instead, as only
+ * its key is written. The resulting {@link TaskReferences} are handed to {@link hexlet.code.mapper.TaskMapper}
+ * as mapping context, so neither a single write nor a batch looks up a reference twice.
+ * </p>
+ */
+@Component
+@AllArgsConstructor
+public final class TaskReferenceResolver {
+    private final TaskStatusRegistry taskStatusRegistry;
+    private final UserRepository userRepository;
+    private final LabelRepository labelRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * Loads the references of tasks to create.
+     *
+     * @param createDTOs the tasks to create, {@code null} items are skipped.
+     * @return the loaded references.
+     */
+    public TaskReferences resolve(Collection<TaskCreateDTO> createDTOs) {
+        var slugs = new HashSet<String>();
+        var userIds = new HashSet<Long>();
+        var labelIds = new HashSet<Long>();
+        createDTOs.stream()
+                .filter(Objects::nonNull)
+                .forEach(createDTO -> {
+                    slugs.add(createDTO.getStatus());
+                    userIds.add(createDTO.getAssigneeId());
+                    if (createDTO.getTaskLabelIds() != null) {
+                        labelIds.addAll(createDTO.getTaskLabelIds());
+                    }
+                });
+        return load(slugs, userIds, labelIds);
+    }
+
+    /**
+     * Loads the references of a single task to create; the assignee is taken as a reference.
+     *
+     * @param createDTO the task to create.
+     * @return the loaded references.
+     */
+    public TaskReferences resolve(TaskCreateDTO createDTO) {
+        var labelIds = new HashSet<Long>();
+        if (createDTO.getTaskLabelIds() != null) {
+            labelIds.addAll(createDTO.getTaskLabelIds());
+        }
+        return load(createDTO.getStatus(), referenceUser(createDTO.getAssigneeId()), labelIds);
+    }
+
+    /**
+     * Loads the references of a task update; only the fields present in the update are loaded,
+     * and the assignee is taken as a reference.
+     *
+     * @param updateDTO the task update.
+     * @return the loaded references.
+     */
+    public TaskReferences resolve(TaskUpdateDTO updateDTO) {
+        var labelIds = new HashSet<Long>();
+        var taskLabelIds = unwrap(updateDTO.getTaskLabelIds());
+        if (taskLabelIds != null) {
+            labelIds.addAll(taskLabelIds);
+        }
+        return load(unwrap(updateDTO.getStatus()), referenceUser(unwrap(updateDTO.getAssigneeId())), labelIds);
+    }
+
+    private TaskReferences load(Set<String> slugs, Set<Long> userIds, Set<Long> labelIds) {
+        return new TaskReferences(
+                byKey(slugs, taskStatusRegistry::findAll, TaskStatus::getSlug),
+                byKey(userIds, userRepository::findAllById, User::getId),
+                byKey(labelIds, labelRepository::findAllById, Label::getId));
+    }
+
+    private TaskReferences load(String slug, Map<Long, User> users, Set<Long> labelIds) {
+        var slugs = new HashSet<String>();
+        slugs.add(slug);
+        return new TaskReferences(
+                byKey(slugs, taskStatusRegistry::findAll, TaskStatus::getSlug),
+                users,
+                byKey(labelIds, labelRepository::findAllById, Label::getId));
+    }
+
+    // A single write only needs the assignee's key, so it is not selected when the class can be proxied and
+    // comes from the persistence context when already loaded. User is final, so otherwise Hibernate loads it
+    // by primary key here and reports a missing row, which then fails in TaskReferences.getUser.
+    private Map<Long, User> referenceUser(Long id) {
+        if (id == null) {
+            return Map.of();
+        }
+        try {
+            return Map.of(id, entityManager.getReference(User.class, id));
+        } catch (EntityNotFoundException e) {
+            return Map.of();
+        }
+    }
+
+    private static <K, T> Map<K, T> byKey(Set<K> keys, Function<Set<K>, List<T>> loader, Function<T, K> key) {
+        keys.remove(null);
+        return keys.isEmpty() ? Map.of() : loader.apply(keys).stream()
+                .collect(Collectors.toMap(key, Function.identity()));
+    }
+
+    private static <T> T unwrap(JsonNullable<T> value) {
+        return value == null ? null : value.orElse(null);
+    }
+}
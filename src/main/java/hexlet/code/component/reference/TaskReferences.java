@@ -0,0 +1,118 @@
+package hexlet.code.component.reference;
+
+import hexlet.code.exception.ResourceNotFoundException;
+import hexlet.code.model.Label;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.utils.ExceptionMessage;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The statuses, users and labels referenced by the tasks of one request, loaded up front by
+ * {@link TaskReferenceResolver}.
+ * <p>
+ * The {@code find} methods return {@code null} for a reference the request named but the database lacks,
+ * for callers that report it per item; the {@code get} methods throw instead.
+ * </p>
+ */
+public final class TaskReferences {
+    private final Map<String, TaskStatus> statuses;
+    private final Map<Long, User> users;
+    private final Map<Long, Label> labels;
+
+    TaskReferences(Map<String, TaskStatus> statuses, Map<Long, User> users, Map<Long, Label> labels) {
+        this.statuses = statuses;
+        this.users = users;
+        this.labels = labels;
+    }
+
+    /**
+     * Returns a loaded status.
+     *
+     * @param slug the status slug, may be {@code null}.
+     * @return the status, or {@code null} if the slug is {@code null} or unknown.
+     */
+    public TaskStatus findStatus(String slug) {
+        return slug == null ? null : statuses.get(slug);
+    }
+
+    /**
+     * Returns a loaded user.
+     *
+     * @param id the user id, may be {@code null}.
+     * @return the user, or {@code null} if the id is {@code null} or unknown.
+     */
+    public User findUser(Long id) {
+        return id == null ? null : users.get(id);
+    }
+
+    /**
+     * Returns a loaded label.
+     *
+     * @param id the label id, may be {@code null}.
+     * @return the label, or {@code null} if the id is {@code null} or unknown.
+     */
+    public Label findLabel(Long id) {
+        return id == null ? null : labels.get(id);
+    }
+
+    /**
+     * Returns a loaded status.
+     *
+     * @param slug the status slug, may be {@code null}.
+     * @return the status, or {@code null} if the slug is {@code null}.
+     * @throws ResourceNotFoundException if the status does not exist.
+     */
+    public TaskStatus getStatus(String slug) {
+        var status = findStatus(slug);
+        if (slug != null && status == null) {
+            throw new ResourceNotFoundException(ExceptionMessage.entityNotFoundMessage(TaskStatus.class, slug));
+        }
+        return status;
+    }
+
+    /**
+     * Returns a loaded user.
+     *
+     * @param id the user id, may be {@code null}.
+     * @return the user, or {@code null} if the id is {@code null}.
+     * @throws ResourceNotFoundException if the user does not exist.
+     */
+    public User getUser(Long id) {
+        var user = findUser(id);
+        if (id != null && user == null) {
+            throw new ResourceNotFoundException(ExceptionMessage.entityNotFoundMessage(User.class, id));
+        }
+        return user;
+    }
+
+    /**
+     * Returns loaded labels.
+     *
+     * @param ids the label ids, may be {@code null}; {@code null} ids are ignored.
+     * @return the labels, empty if the ids are {@code null}.
+     * @throws ResourceNotFoundException if some of the labels do not exist, listing all missing ids.
+     */
+    public Set<Label> getLabels(Collection<Long> ids) {
+        var result = new HashSet<Label>();
+        if (ids == null) {
+            return result;
+        }
+        var missing = ids.stream()
+                .filter(id -> id != null && !labels.containsKey(id))
+                .sorted()
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new ResourceNotFoundException(ExceptionMessage.entitiesNotFoundMessage(Label.class, missing));
+        }
+        ids.stream()
+                .filter(Objects::nonNull)
+                .forEach(id -> result.add(labels.get(id)));
+        return result;
+    }
+}
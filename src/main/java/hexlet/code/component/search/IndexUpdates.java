@@ -0,0 +1,36 @@
+package hexlet.code.component.search;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers index changes until the transaction that caused them commits.
+ * <p>
+ * The SQL of a service call is only flushed at commit, where it can still fail on a constraint or a version
+ * check; an index changed before that would keep a write that never happened.
+ * </p>
+ */
+final class IndexUpdates {
+
+    private IndexUpdates() {
+    }
+
+    /**
+     * Runs an index change after the current transaction commits, or at once outside a transaction.
+     * The change is dropped if the transaction rolls back.
+     *
+     * @param update the index change.
+     */
+    static void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,18 @@
+package hexlet.code.component.search;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+import java.util.Locale;
+
+/**
+ * Portable matcher comparing the lower-cased column with {@code LIKE '%text%'}.
+ */
+public final class LikeTextMatcher implements TextMatcher {
+
+    @Override
+    public Predicate contains(CriteriaBuilder cb, Expression<String> field, String text) {
+        return cb.like(cb.lower(field), "%" + text.toLowerCase(Locale.ROOT) + "%");
+    }
+}
@@ -0,0 +1,314 @@
+package hexlet.code.component.search;
+
+import hexlet.code.dto.task.TaskParamsDTO;
+import hexlet.code.dto.task.TaskProjectionDTO;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.repository.TaskRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+
+/**
+ * In-memory bitmap index answering the multi-value task filters.
+ * <p>
+ * Holds one compressed bitmap of task ids per status slug, assignee and label, so "any of" filters are
+ * bitmap unions and "all of" filters are intersections instead of joins over {@code tasks_labels}.
+ * The index is rebuilt from the database on startup and kept up to date by
+ * {@link hexlet.code.service.task.TaskService}; until the rebuild is done, callers fall back to SQL.
+ * {@link #reconcile()} periodically compares it with the database and corrects any drift.
+ * </p>
+ */
+@Log4j2
+@Component
+@AllArgsConstructor
+public final class TaskFilterIndex implements TaskIndex {
+    private static final int REBUILD_BATCH_SIZE = 5000;
+
+    private final TaskRepository taskRepository;
+
+    private final Map<String, Roaring64Bitmap> byStatus = new HashMap<>();
+    private final Map<Long, Roaring64Bitmap> byAssignee = new HashMap<>();
+    private final Map<Long, Roaring64Bitmap> byLabel = new HashMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean ready = new AtomicBoolean();
+
+    /**
+     * Rebuilds the index from the tasks stored in the database.
+     * <p>
+     * Runs once the application is ready; tasks are read in id order in batches.
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        ready.set(false);
+        clear();
+        forEachStored(this::index);
+        int size;
+        lock.writeLock().lock();
+        try {
+            size = entries.size();
+            ready.set(true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Task filter index rebuilt with {} documents", size);
+    }
+
+    /**
+     * Reads one keyset page of a bitmap returned by {@link #filter(TaskParamsDTO)}.
+     *
+     * @param taskIds the task ids to page through.
+     * @param afterId the last id of the previous page, or {@code 0} for the first page.
+     * @param limit   the maximum number of ids to return.
+     * @return the ids following {@code afterId} in ascending order.
+     */
+    public static List<Long> idsAfter(Roaring64Bitmap taskIds, long afterId, int limit) {
+        var from = taskIds.rankLong(afterId);
+        var to = Math.min(taskIds.getLongCardinality(), from + limit);
+        var ids = new ArrayList<Long>((int) Math.max(to - from, 0));
+        for (var rank = from; rank < to; rank++) {
+            ids.add(taskIds.select(rank));
+        }
+        return ids;
+    }
+
+    /**
+     * Compares the index with the tasks stored in the database and corrects the entries that drifted.
+     * <p>
+     * Writes committed while the tasks are read may be reported as drift and are corrected by the next run.
+     * Entries above the highest stored id are kept, as they belong to tasks created in the meantime.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${search.reconcile-interval:PT10M}",
+            initialDelayString = "${search.reconcile-interval:PT10M}")
+    public void reconcile() {
+        if (!ready.get()) {
+            return;
+        }
+        var stored = new HashMap<Long, Entry>();
+        forEachStored(stored::put);
+        var maxId = stored.keySet().stream().max(Long::compare).orElse(0L);
+
+        lock.writeLock().lock();
+        try {
+            var stale = entries.keySet().stream()
+                    .filter(id -> id <= maxId && !stored.containsKey(id))
+                    .toList();
+            stale.forEach(this::removeEntry);
+            var changed = stored.entrySet().stream()
+                    .filter(entry -> !entry.getValue().equals(entries.get(entry.getKey())))
+                    .toList();
+            changed.forEach(entry -> index(entry.getKey(), entry.getValue()));
+            if (!stale.isEmpty() || !changed.isEmpty()) {
+                log.warn("Task filter index drifted: {} stale and {} outdated entries", stale.size(), changed.size());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Task task) {
+        var status = task.getTaskStatus() == null ? null : task.getTaskStatus().getSlug();
+        var assigneeId = task.getAssignee() == null ? null : task.getAssignee().getId();
+        var labelIds = task.getLabels().stream().map(Label::getId).toList();
+        var taskId = task.getId();
+        var entry = new Entry(status, assigneeId, labelIds);
+        IndexUpdates.afterCommit(() -> index(taskId, entry));
+    }
+
+    @Override
+    public void index(TaskProjectionDTO task) {
+        var taskId = task.id();
+        var entry = new Entry(task.status(), task.assigneeId(), task.labelIds());
+        IndexUpdates.afterCommit(() -> index(taskId, entry));
+    }
+
+    @Override
+    public void remove(Long taskId) {
+        IndexUpdates.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeEntry(taskId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Moves the tasks of a status to its new slug once the current transaction commits.
+     *
+     * @param oldSlug the previous slug of the status.
+     * @param newSlug the current slug of the status.
+     */
+    public void renameStatus(String oldSlug, String newSlug) {
+        IndexUpdates.afterCommit(() -> moveStatus(oldSlug, newSlug));
+    }
+
+    private void moveStatus(String oldSlug, String newSlug) {
+        lock.writeLock().lock();
+        try {
+            var taskIds = byStatus.remove(oldSlug);
+            if (taskIds == null) {
+                return;
+            }
+            byStatus.put(newSlug, taskIds);
+            entries.replaceAll((id, entry) -> oldSlug.equals(entry.status())
+                    ? new Entry(newSlug, entry.assigneeId(), entry.labelIds()) : entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Computes the ids of the tasks matching the multi-value filters of the params.
+     *
+     * @param params the filter params; only {@code statusIn}, {@code assigneeIdIn}, {@code labelIdIn}
+     *               and {@code labelIdAll} are considered.
+     * @return the matching task ids, or empty when the params have no multi-value filter
+     *         or the index is not built yet.
+     */
+    public Optional<Roaring64Bitmap> filter(TaskParamsDTO params) {
+        if (!ready.get() || !params.hasMultiValueFilter()) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            Roaring64Bitmap result = null;
+            if (isPresent(params.getStatusIn())) {
+                result = intersect(result, union(byStatus, params.getStatusIn()));
+            }
+            if (isPresent(params.getAssigneeIdIn())) {
+                result = intersect(result, union(byAssignee, params.getAssigneeIdIn()));
+            }
+            if (isPresent(params.getLabelIdIn())) {
+                result = intersect(result, union(byLabel, params.getLabelIdIn()));
+            }
+            if (isPresent(params.getLabelIdAll())) {
+                for (var labelId : params.getLabelIdAll()) {
+                    result = intersect(result, union(byLabel, List.of(labelId)));
+                }
+            }
+            return Optional.of(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(Long taskId, Entry entry) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(taskId);
+            entries.put(taskId, entry);
+            if (entry.status() != null) {
+                byStatus.computeIfAbsent(entry.status(), key -> new Roaring64Bitmap()).addLong(taskId);
+            }
+            if (entry.assigneeId() != null) {
+                byAssignee.computeIfAbsent(entry.assigneeId(), key -> new Roaring64Bitmap()).addLong(taskId);
+            }
+            entry.labelIds().forEach(labelId -> byLabel.computeIfAbsent(labelId, key -> new Roaring64Bitmap())
+                    .addLong(taskId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void forEachStored(BiConsumer<Long, Entry> action) {
+        var afterId = 0L;
+        List<TaskProjectionDTO> batch;
+        do {
+            var specification = idGreaterThan(afterId);
+            batch = taskRepository.findProjections(specification, Sort.by("id"), 0, REBUILD_BATCH_SIZE);
+            batch.forEach(task -> action.accept(task.id(),
+                    new Entry(task.status(), task.assigneeId(), task.labelIds())));
+            afterId = batch.isEmpty() ? afterId : batch.getLast().id();
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+    }
+
+    private void removeEntry(Long taskId) {
+        var entry = entries.remove(taskId);
+        if (entry == null) {
+            return;
+        }
+        removeFrom(byStatus, entry.status(), taskId);
+        removeFrom(byAssignee, entry.assigneeId(), taskId);
+        entry.labelIds().forEach(labelId -> removeFrom(byLabel, labelId, taskId));
+    }
+
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            byStatus.clear();
+            byAssignee.clear();
+            byLabel.clear();
+            entries.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, Roaring64Bitmap> bitmaps, K key, Long taskId) {
+        if (key == null) {
+            return;
+        }
+        var taskIds = bitmaps.get(key);
+        taskIds.removeLong(taskId);
+        if (taskIds.isEmpty()) {
+            bitmaps.remove(key);
+        }
+    }
+
+    private static <K> Roaring64Bitmap union(Map<K, Roaring64Bitmap> bitmaps, Collection<K> keys) {
+        var result = new Roaring64Bitmap();
+        keys.stream()
+                .map(bitmaps::get)
+                .filter(Objects::nonNull)
+                .forEach(result::or);
+        return result;
+    }
+
+    private static Roaring64Bitmap intersect(Roaring64Bitmap result, Roaring64Bitmap taskIds) {
+        if (result == null) {
+            return taskIds;
+        }
+        result.and(taskIds);
+        return result;
+    }
+
+    private static boolean isPresent(Collection<?> values) {
+        return values != null && !values.isEmpty();
+    }
+
+    private static Specification<Task> idGreaterThan(Long id) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), id);
+    }
+
+    private record Entry(String status, Long assigneeId, List<Long> labelIds) {
+        private Entry {
+            // Sorted, so that entries read from the database and from an entity compare equal.
+            labelIds = labelIds.stream().sorted().toList();
+        }
+    }
+}
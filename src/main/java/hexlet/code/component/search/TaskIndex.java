@@ -0,0 +1,34 @@
+package hexlet.code.component.search;
+
+import hexlet.code.dto.task.TaskProjectionDTO;
+import hexlet.code.model.Task;
+
+/**
+ * In-memory index over tasks that {@link hexlet.code.service.task.TaskService} keeps in sync on writes.
+ * <p>
+ * Changes made inside a transaction are applied once it commits; the task is read when the change is made.
+ * </p>
+ */
+public interface TaskIndex {
+
+    /**
+     * Adds a task to the index or replaces its previous version.
+     *
+     * @param task the saved task.
+     */
+    void index(Task task);
+
+    /**
+     * Adds a task read as a projection, as bulk writes do, or replaces its previous version.
+     *
+     * @param task the saved task.
+     */
+    void index(TaskProjectionDTO task);
+
+    /**
+     * Removes a task from the index.
+     *
+     * @param taskId the id of the deleted task.
+     */
+    void remove(Long taskId);
+}
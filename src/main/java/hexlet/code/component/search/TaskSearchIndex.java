@@ -0,0 +1,254 @@
+package hexlet.code.component.search;
+
+import hexlet.code.dto.task.TaskProjectionDTO;
+import hexlet.code.dto.task.TaskSearchDocumentDTO;
+import hexlet.code.model.Task;
+import hexlet.code.repository.TaskRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over task names and descriptions.
+ * <p>
+ * Terms are lower-cased words; every query word matches the terms it is a prefix of, and a task must
+ * match all query words. Matches are ranked by term frequency weighted with inverse document frequency,
+ * with name terms and exact term matches scoring higher. The index is rebuilt from the database on startup
+ * and kept up to date by {@link hexlet.code.service.task.TaskService}; {@link #reconcile()} periodically
+ * compares it with the database and corrects any drift.
+ * </p>
+ */
+@Log4j2
+@Component
+@AllArgsConstructor
+public final class TaskSearchIndex implements TaskIndex {
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int NAME_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final double EXACT_MATCH_BOOST = 2.0;
+    private static final int REBUILD_BATCH_SIZE = 5000;
+
+    private final TaskRepository taskRepository;
+
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Rebuilds the index from the tasks stored in the database.
+     * <p>
+     * Runs once the application is ready; tasks are read in id order in batches.
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        clear();
+        forEachStored(this::index);
+        log.info("Task search index rebuilt with {} documents", size());
+    }
+
+    /**
+     * Compares the index with the tasks stored in the database and corrects the documents that drifted.
+     * <p>
+     * Writes committed while the tasks are read may be reported as drift and are corrected by the next run.
+     * Documents above the highest stored id are kept, as they belong to tasks created in the meantime.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${search.reconcile-interval:PT10M}",
+            initialDelayString = "${search.reconcile-interval:PT10M}")
+    public void reconcile() {
+        var stored = new HashMap<Long, Map<String, Integer>>();
+        forEachStored(stored::put);
+        var maxId = stored.keySet().stream().max(Long::compare).orElse(0L);
+
+        lock.writeLock().lock();
+        try {
+            var stale = documents.keySet().stream()
+                    .filter(id -> id <= maxId && !stored.containsKey(id))
+                    .toList();
+            stale.forEach(this::removeDocument);
+            var changed = stored.entrySet().stream()
+                    .filter(entry -> !entry.getValue().equals(documents.get(entry.getKey())))
+                    .toList();
+            changed.forEach(entry -> index(entry.getKey(), entry.getValue()));
+            if (!stale.isEmpty() || !changed.isEmpty()) {
+                log.warn("Task search index drifted: {} stale and {} outdated documents", stale.size(), changed.size());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Task task) {
+        var taskId = task.getId();
+        var terms = terms(task.getName(), task.getDescription());
+        IndexUpdates.afterCommit(() -> index(taskId, terms));
+    }
+
+    @Override
+    public void index(TaskProjectionDTO task) {
+        var taskId = task.id();
+        var terms = terms(task.name(), task.description());
+        IndexUpdates.afterCommit(() -> index(taskId, terms));
+    }
+
+    @Override
+    public void remove(Long taskId) {
+        IndexUpdates.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeDocument(taskId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Finds the tasks matching every word of the query, best matches first.
+     *
+     * @param query the search query.
+     * @param limit the maximum number of ids to return.
+     * @return the ids of the matching tasks ordered by descending relevance.
+     */
+    public List<Long> search(String query, int limit) {
+        var tokens = tokenize(query).keySet();
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (var token : tokens) {
+                var tokenScores = score(token);
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    scores.replaceAll((id, score) -> score + tokenScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed tasks.
+     *
+     * @return the number of indexed tasks.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void forEachStored(BiConsumer<Long, Map<String, Integer>> action) {
+        var afterId = 0L;
+        List<TaskSearchDocumentDTO> batch;
+        do {
+            batch = taskRepository.findSearchDocuments(afterId, PageRequest.ofSize(REBUILD_BATCH_SIZE));
+            batch.forEach(document -> action.accept(document.id(), terms(document.name(), document.description())));
+            afterId = batch.isEmpty() ? afterId : batch.getLast().id();
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+    }
+
+    private void index(Long taskId, Map<String, Integer> terms) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(taskId);
+            documents.put(taskId, terms);
+            terms.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(taskId, weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeDocument(Long taskId) {
+        var terms = documents.remove(taskId);
+        if (terms == null) {
+            return;
+        }
+        for (var term : terms.keySet()) {
+            var taskIds = postings.get(term);
+            taskIds.remove(taskId);
+            if (taskIds.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private Map<Long, Double> score(String token) {
+        var tokenScores = new HashMap<Long, Double>();
+        var matchingTerms = postings.subMap(token, true, token + Character.MAX_VALUE, true);
+        for (var entry : matchingTerms.entrySet()) {
+            var taskIds = entry.getValue();
+            var idf = Math.log(1.0 + (double) documents.size() / taskIds.size());
+            var boost = entry.getKey().equals(token) ? EXACT_MATCH_BOOST : 1.0;
+            taskIds.forEach((id, weight) -> tokenScores.merge(id, weight * idf * boost, Double::sum));
+        }
+        return tokenScores;
+    }
+
+    private static Map<String, Integer> terms(String name, String description) {
+        var terms = tokenize(name, NAME_WEIGHT);
+        tokenize(description, DESCRIPTION_WEIGHT).forEach((term, weight) -> terms.merge(term, weight, Integer::sum));
+        return terms;
+    }
+
+    private static Map<String, Integer> tokenize(String text) {
+        return tokenize(text, 1);
+    }
+
+    private static Map<String, Integer> tokenize(String text, int weight) {
+        var terms = new HashMap<String, Integer>();
+        if (text == null) {
+            return terms;
+        }
+        Arrays.stream(TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .forEach(token -> terms.merge(token, weight, Integer::sum));
+        return terms;
+    }
+}
@@ -0,0 +1,21 @@
+package hexlet.code.component.search;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Builds case-insensitive substring predicates in the way the underlying database can serve best.
+ */
+public interface TextMatcher {
+
+    /**
+     * Creates a predicate matching rows whose field contains the text, ignoring case.
+     *
+     * @param cb    the criteria builder of the query.
+     * @param field the text column.
+     * @param text  the substring to look for.
+     * @return the predicate.
+     */
+    Predicate contains(CriteriaBuilder cb, Expression<String> field, String text);
+}
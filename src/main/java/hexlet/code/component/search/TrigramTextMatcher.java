@@ -0,0 +1,21 @@
+package hexlet.code.component.search;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+
+/**
+ * PostgreSQL matcher rendering {@code ILIKE '%text%'} on the bare column.
+ * <p>
+ * Unlike {@code lower(column) LIKE}, this form is served by the {@code gin_trgm_ops} indexes
+ * created by the PostgreSQL-only {@code V3__add_trigram_indexes} migration.
+ * </p>
+ */
+public final class TrigramTextMatcher implements TextMatcher {
+
+    @Override
+    public Predicate contains(CriteriaBuilder cb, Expression<String> field, String text) {
+        return ((HibernateCriteriaBuilder) cb).ilike(field, "%" + text + "%");
+    }
+}
@@ -1,23 +1,166 @@
 package hexlet.code.component.specification;
 
+import hexlet.code.component.cache.TaskStatusRegistry;
+import hexlet.code.component.search.TaskFilterIndex;
+import hexlet.code.component.search.TaskSearchIndex;
+import hexlet.code.component.search.TextMatcher;
 import hexlet.code.dto.task.TaskParamsDTO;
+import hexlet.code.exception.BadRequestException;
 import hexlet.code.model.Task;
+import lombok.AllArgsConstructor;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
 @Component
+@AllArgsConstructor
 public final class TaskSpecification {
+    public static final int MAX_SEARCH_RESULTS = 10_000;
+    public static final int MAX_FILTER_IDS = 10_000;
+
+    private final TaskSearchIndex searchIndex;
+    private final TaskFilterIndex filterIndex;
+    private final TextMatcher textMatcher;
+    private final TaskStatusRegistry taskStatusRegistry;
 
     public Specification<Task> build(TaskParamsDTO params) {
+        return build(params, search(params.getSearch()));
+    }
+
+    // Takes the ranking of the search query, so that a caller sorting by relevance filters with the same one.
+    public Specification<Task> build(TaskParamsDTO params, List<Long> searchRanking) {
+        return buildWithoutMultiValueFilters(params, searchRanking)
+                .and(withMultiValueFilters(params));
+    }
+
+    // For callers reading in id order, which apply filterIds(params) themselves one keyset chunk at a time.
+    public Specification<Task> buildWithoutMultiValueFilters(TaskParamsDTO params, List<Long> searchRanking) {
         return withAssigneeId(params.getAssigneeId())
                 .and(withStatus(params.getStatus()))
                 .and(withLabelId(params.getLabelId()))
-                .and(withTitleContains(params.getTitleCont()));
+                .and(withTitleContains(params.getTitleCont()))
+                .and(withContentContains(params.getContentCont()))
+                .and(withSearchMatch(searchRanking));
+    }
+
+    public Optional<Roaring64Bitmap> filterIds(TaskParamsDTO params) {
+        return filterIndex.filter(params);
+    }
+
+    /**
+     * Ranks the tasks matching a search query, best matches first.
+     *
+     * @param search the search query, may be {@code null}.
+     * @return the ids of the matching tasks, or {@code null} without a query.
+     * @throws BadRequestException if the query matches more than {@link #MAX_SEARCH_RESULTS} tasks.
+     */
+    public List<Long> search(String search) {
+        if (search == null) {
+            return null;
+        }
+        var ids = searchIndex.search(search, MAX_SEARCH_RESULTS + 1);
+        if (ids.size() > MAX_SEARCH_RESULTS) {
+            throw new BadRequestException("Search \"" + search + "\" matches more than " + MAX_SEARCH_RESULTS
+                    + " tasks, refine the query");
+        }
+        return ids;
+    }
+
+    public Specification<Task> withIdIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    public Specification<Task> withIdGreaterThan(Long id) {
+        return (root, query, cb) -> id == null ? cb.conjunction()
+                : cb.greaterThan(root.get("id"), id);
     }
 
     private Specification<Task> withTitleContains(String mayContain) {
         return (root, query, criteriaBuilder) -> mayContain == null ? criteriaBuilder.conjunction()
-                : criteriaBuilder.like(criteriaBuilder.lower(root.get("name")), "%" + mayContain + "%");
+                : textMatcher.contains(criteriaBuilder, root.get("name"), mayContain);
+    }
+
+    private Specification<Task> withContentContains(String mayContain) {
+        return (root, query, criteriaBuilder) -> mayContain == null ? criteriaBuilder.conjunction()
+                : textMatcher.contains(criteriaBuilder, root.get("description"), mayContain);
+    }
+
+    private Specification<Task> withSearchMatch(List<Long> ids) {
+        if (ids == null) {
+            return (root, query, cb) -> cb.conjunction();
+        }
+        return (root, query, cb) -> ids.isEmpty() ? cb.disjunction() : root.get("id").in(ids);
+    }
+
+    // For sorted and counted reads: small bitmap results become an id list, large ones are filtered by SQL.
+    private Specification<Task> withMultiValueFilters(TaskParamsDTO params) {
+        var taskIds = filterIndex.filter(params)
+                .filter(bitmap -> bitmap.getLongCardinality() <= MAX_FILTER_IDS);
+        if (taskIds.isPresent()) {
+            var ids = Arrays.stream(taskIds.get().toArray()).boxed().toList();
+            return (root, query, cb) -> ids.isEmpty() ? cb.disjunction() : root.get("id").in(ids);
+        }
+        return withAssigneeIdIn(params.getAssigneeIdIn())
+                .and(withStatusIn(params.getStatusIn()))
+                .and(withAnyLabel(params.getLabelIdIn()))
+                .and(withAllLabels(params.getLabelIdAll()));
+    }
+
+    private Specification<Task> withAssigneeIdIn(Set<Long> assigneeIds) {
+        return (root, query, cb) -> isEmpty(assigneeIds) ? cb.conjunction()
+                : root.get("assignee").get("id").in(assigneeIds);
+    }
+
+    private Specification<Task> withStatusIn(Set<String> statuses) {
+        if (isEmpty(statuses)) {
+            return (root, query, cb) -> cb.conjunction();
+        }
+        var statusIds = statuses.stream()
+                .map(taskStatusRegistry::findId)
+                .filter(Objects::nonNull)
+                .toList();
+        return (root, query, cb) -> statusIds.isEmpty() ? cb.disjunction()
+                : root.get("taskStatus").get("id").in(statusIds);
+    }
+
+    private Specification<Task> withAnyLabel(Set<Long> labelIds) {
+        return (root, query, cb) -> {
+            if (isEmpty(labelIds)) {
+                return cb.conjunction();
+            }
+            var subquery = query.subquery(Long.class);
+            var task = subquery.from(Task.class);
+            subquery.select(task.<Long>get("id"))
+                    .where(task.join("labels").get("id").in(labelIds));
+            return root.get("id").in(subquery);
+        };
+    }
+
+    private Specification<Task> withAllLabels(Set<Long> labelIds) {
+        return (root, query, cb) -> {
+            if (isEmpty(labelIds)) {
+                return cb.conjunction();
+            }
+            var subquery = query.subquery(Long.class);
+            var task = subquery.from(Task.class);
+            var label = task.join("labels");
+            subquery.select(task.<Long>get("id"))
+                    .where(label.get("id").in(labelIds))
+                    .groupBy(task.get("id"))
+                    .having(cb.equal(cb.countDistinct(label.get("id")), (long) labelIds.size()));
+            return root.get("id").in(subquery);
+        };
+    }
+
+    private static boolean isEmpty(Set<?> values) {
+        return values == null || values.isEmpty();
     }
 
     private Specification<Task> withAssigneeId(Long assigneeId) {
@@ -25,9 +168,14 @@ public final class TaskSpecification {
                 : cb.equal(root.get("assignee").get("id"), assigneeId);
     }
 
+    // Statuses are resolved to ids up front, so the filter compares the foreign key without joining the statuses.
     private Specification<Task> withStatus(String status) {
-        return (root, query, cb) -> status == null ? cb.conjunction()
-                : cb.equal(root.get("taskStatus").get("slug"), status);
+        if (status == null) {
+            return (root, query, cb) -> cb.conjunction();
+        }
+        var statusId = taskStatusRegistry.findId(status);
+        return (root, query, cb) -> statusId == null ? cb.disjunction()
+                : cb.equal(root.get("taskStatus").get("id"), statusId);
     }
 
     private Specification<Task> withLabelId(Long labelId) {
@@ -0,0 +1,20 @@
+package hexlet.code.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration enabling the result caches of the list endpoints.
+ * <p>
+ * The caches are created by Spring Boot from the {@code spring.cache} properties, which set the Caffeine
+ * size and TTL bounds and turn on the hit/miss statistics published as {@code cache.*} metrics.
+ * Only pages are cached, never whole lists, so an entry holds at most
+ * {@link hexlet.code.service.task.TaskService#MAX_PAGE_SIZE} tasks and the entry count bounds the memory.
+ * </p>
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String TASK_LISTS = "taskLists";
+    public static final String TASK_COUNTS = "taskCounts";
+}
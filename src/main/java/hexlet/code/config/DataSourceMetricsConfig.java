@@ -0,0 +1,34 @@
+package hexlet.code.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import hexlet.code.component.datasource.InstrumentedDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration instrumenting the connection pools with per-handler acquire and hold timers.
+ */
+@Configuration
+public class DataSourceMetricsConfig {
+
+    /**
+     * Wraps every Hikari pool defined as a bean into an {@link InstrumentedDataSource}.
+     *
+     * @param meterRegistry the registry of the timers, resolved when the first pool is created.
+     * @return the post processor wrapping the pools.
+     */
+    @Bean
+    static BeanPostProcessor connectionMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof HikariDataSource dataSource
+                        ? new InstrumentedDataSource(dataSource, beanName, meterRegistry.getObject())
+                        : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package hexlet.code.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import hexlet.code.component.datasource.InstrumentedDataSource;
+import hexlet.code.component.datasource.ReplicaRoutingDataSource;
+import hexlet.code.component.property.DataSourceRoutingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+
+/**
+ * Configuration splitting the traffic between the primary database and its read replicas.
+ * <p>
+ * Enabled with {@code datasource-routing.enabled}. The primary is built from {@code spring.datasource} as
+ * usual, the replicas from {@code datasource-routing.replicas}; the application data source routes each
+ * transaction to one of them, see {@link ReplicaRoutingDataSource}.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource-routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    /**
+     * Creates the connection pool of the primary database.
+     *
+     * @param properties the {@code spring.datasource} properties.
+     * @return the primary pool, tuned by the {@code spring.datasource.hikari} properties.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Creates the data source routing between the primary and the replica pools.
+     *
+     * @param primaryDataSource the primary pool.
+     * @param properties        the replica connection settings and the read-your-writes window.
+     * @param jpaProperties     checked for open-in-view, which is incompatible with routing.
+     * @param meterRegistry     the registry of the replica pool metrics.
+     * @return the routing data source.
+     */
+    @Bean
+    ReplicaRoutingDataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                               DataSourceRoutingProperties properties,
+                                               JpaProperties jpaProperties,
+                                               MeterRegistry meterRegistry) {
+        // An open session holds its first connection for the whole request, so a request that read from a
+        // replica would also write there.
+        if (!Boolean.FALSE.equals(jpaProperties.getOpenInView())) {
+            throw new IllegalStateException("datasource-routing requires spring.jpa.open-in-view=false");
+        }
+        var replicas = new ArrayList<DataSource>();
+        for (var replica : properties.getReplicas()) {
+            var dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replica.getUrl())
+                    .username(replica.getUsername())
+                    .password(replica.getPassword())
+                    .build();
+            var poolName = "replica-" + replicas.size();
+            dataSource.setPoolName(poolName);
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new InstrumentedDataSource(dataSource, poolName, meterRegistry));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, properties.getReadYourWritesWindow());
+    }
+
+    /**
+     * Provides the data source used by JPA and Flyway.
+     *
+     * @param routingDataSource the routing data source.
+     * @return a proxy deferring the routing decision to the first statement of a transaction.
+     */
+    @Bean
+    @Primary
+    DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -1,13 +1,17 @@
 package hexlet.code.config;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+import hexlet.code.component.json.DtoSerializersModule;
+import hexlet.code.component.property.JsonProperties;
 import org.openapitools.jackson.nullable.JsonNullableModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 
 /**
  * Configuration class for customizing Jackson's JSON serialization and deserialization.
@@ -20,21 +24,40 @@ public class JacksonConfig {
 
     /**
      * Configures and provides a {@link Jackson2ObjectMapperBuilder} bean.
+     *
+     * @param properties selects whether the API DTOs are written by hand-written serializers.
+     * @return A configured instance of {@link Jackson2ObjectMapperBuilder}.
+     */
+    @Bean
+    Jackson2ObjectMapperBuilder objectMapperBuilder(JsonProperties properties) {
+        return objectMapperBuilder(properties.isDtoSerializers());
+    }
+
+    /**
+     * Creates a {@link Jackson2ObjectMapperBuilder} with the application settings.
      * <p>
      * This builder:
      * <ul>
      *     <li>Excludes {@code null} values from JSON output.</li>
      *     <li>Registers support for {@link org.openapitools.jackson.nullable.JsonNullable}.</li>
      *     <li>Sets the default date format for {@link java.time.LocalDate} to {@code yyyy-MM-dd}.</li>
+     *     <li>Optionally registers the {@link DtoSerializersModule}, which writes the same output
+     *     without reflection.</li>
      * </ul>
      *
+     * @param dtoSerializers whether to register the hand-written DTO serializers.
      * @return A configured instance of {@link Jackson2ObjectMapperBuilder}.
      */
-    @Bean
-    Jackson2ObjectMapperBuilder objectMapperBuilder() {
+    public static Jackson2ObjectMapperBuilder objectMapperBuilder(boolean dtoSerializers) {
+        var modules = new ArrayList<Module>();
+        modules.add(new JsonNullableModule());
+        if (dtoSerializers) {
+            modules.add(new DtoSerializersModule());
+        }
+
         var builder = new Jackson2ObjectMapperBuilder();
         builder.serializationInclusion(JsonInclude.Include.NON_NULL)
-                .modulesToInstall(new JsonNullableModule());
+                .modulesToInstall(modules.toArray(Module[]::new));
 
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
         builder.serializers(new LocalDateSerializer(formatter));
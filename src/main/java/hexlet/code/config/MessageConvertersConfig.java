@@ -0,0 +1,50 @@
+package hexlet.code.config;
+
+import hexlet.code.component.property.JsonProperties;
+import hexlet.code.component.protobuf.DtoProtobufCodec;
+import hexlet.code.component.protobuf.DtoProtobufHttpMessageConverter;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Configuration of the binary response formats, negotiated from the {@code Accept} header.
+ * <p>
+ * Besides JSON, every endpoint of the API can answer with:
+ * <ul>
+ *     <li>{@code application/x-jackson-smile} and {@code application/cbor}, written by mappers built with
+ *     {@link JacksonConfig#objectMapperBuilder(boolean)}, so they carry the same fields as the JSON.</li>
+ *     <li>{@code application/x-protobuf} for the DTOs and lists of them, following {@code proto/dtos.proto}.</li>
+ * </ul>
+ * The converters are appended after the JSON one, so a request without an {@code Accept} header, or one
+ * that accepts any type, still gets JSON.
+ * </p>
+ */
+@Configuration
+@AllArgsConstructor
+public class MessageConvertersConfig implements WebMvcConfigurer {
+    private final JsonProperties properties;
+
+    /**
+     * Replaces the default Smile and CBOR converters, whose mappers lack the application settings,
+     * and adds the protobuf one.
+     *
+     * @param converters the configured converters.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        var dtoSerializers = properties.isDtoSerializers();
+        converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter
+                || converter instanceof MappingJackson2CborHttpMessageConverter);
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                JacksonConfig.objectMapperBuilder(dtoSerializers).smile().build()));
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                JacksonConfig.objectMapperBuilder(dtoSerializers).cbor().build()));
+        converters.add(new DtoProtobufHttpMessageConverter(new DtoProtobufCodec()));
+    }
+}
@@ -0,0 +1,30 @@
+package hexlet.code.config;
+
+import hexlet.code.component.search.LikeTextMatcher;
+import hexlet.code.component.search.TextMatcher;
+import hexlet.code.component.search.TrigramTextMatcher;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration choosing the text search backend from the dialect of the datasource.
+ * PostgreSQL gets trigram-indexed {@code ILIKE} matching, any other database the portable {@code LIKE} predicate.
+ */
+@Configuration
+public class SearchConfig {
+
+    /**
+     * Provides the {@link TextMatcher} for the current database.
+     *
+     * @param entityManagerFactory the factory whose dialect is inspected.
+     * @return the matcher used by the specifications for substring filters.
+     */
+    @Bean
+    TextMatcher textMatcher(EntityManagerFactory entityManagerFactory) {
+        var dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        return dialect instanceof PostgreSQLDialect ? new TrigramTextMatcher() : new LikeTextMatcher();
+    }
+}
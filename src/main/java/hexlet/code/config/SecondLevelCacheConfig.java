@@ -0,0 +1,67 @@
+package hexlet.code.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import hexlet.code.component.property.SecondLevelCacheProperties;
+import hexlet.code.model.Label;
+import hexlet.code.model.TaskStatus;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Configuration of the Hibernate second-level cache holding the task status and label reference data.
+ * <p>
+ * Hibernate uses an in-process Caffeine JCache manager owned by the application context. The entity and
+ * query result regions are bounded by the {@code second-level-cache} properties; hits and misses are
+ * published with the other {@code hibernate.*} metrics.
+ * </p>
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+    private static final List<String> BOUNDED_REGIONS = List.of(
+            TaskStatus.class.getName(),
+            Label.class.getName(),
+            RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
+    /**
+     * Creates the cache manager and the regions used by Hibernate.
+     *
+     * @param properties the size and TTL bounds of the regions.
+     * @return the cache manager, closed with the application context.
+     */
+    @Bean(destroyMethod = "close")
+    CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+        var provider = new CaffeineCachingProvider();
+        var cacheManager = provider.getCacheManager(provider.getDefaultURI(), provider.getDefaultClassLoader());
+
+        var bounded = new CaffeineConfiguration<Object, Object>();
+        bounded.setMaximumSize(OptionalLong.of(properties.getMaximumSize()));
+        bounded.setExpireAfterWrite(OptionalLong.of(properties.getExpireAfterWrite().toNanos()));
+        bounded.setStatisticsEnabled(true);
+        BOUNDED_REGIONS.forEach(region -> cacheManager.createCache(region, bounded));
+
+        // A missing timestamp makes cached query results look fresh, so this region is never evicted.
+        var timestamps = new CaffeineConfiguration<Object, Object>();
+        timestamps.setStatisticsEnabled(true);
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestamps);
+        return cacheManager;
+    }
+
+    /**
+     * Hands the cache manager to Hibernate instead of letting it create its own.
+     *
+     * @param secondLevelCacheManager the manager holding the regions.
+     * @return the customizer of the Hibernate properties.
+     */
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+}
@@ -1,24 +1,43 @@
 package hexlet.code.controller.api;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import hexlet.code.component.specification.TaskSpecification;
+import hexlet.code.dto.task.TaskBatchResultDTO;
+import hexlet.code.dto.task.TaskBulkDeleteDTO;
+import hexlet.code.dto.task.TaskBulkResultDTO;
+import hexlet.code.dto.task.TaskBulkUpdateDTO;
 import hexlet.code.dto.task.TaskCreateDTO;
 import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.task.TaskPageParamsDTO;
 import hexlet.code.dto.task.TaskParamsDTO;
 import hexlet.code.dto.task.TaskUpdateDTO;
+import hexlet.code.service.task.TaskBulkService;
 import hexlet.code.service.task.TaskService;
+import hexlet.code.utils.ETagUtils;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -29,32 +48,84 @@ import java.util.List;
 @AllArgsConstructor
 public class TaskController {
     private final TaskService service;
+    private final TaskBulkService bulkService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Retrieves all tasks.
+     * <p>
+     * With {@code after}/{@code limit} the tasks are returned page by page ordered by id, and the cursor
+     * of the next page is sent in the {@code X-Next-Cursor} header. With {@code _start}/{@code _end}/
+     * {@code _sort}/{@code _order} a sorted range of tasks is returned. The total count honours the filters
+     * and is skipped when {@code _count=false}.
+     * </p>
+     * <p>
+     * A {@code search} query may match at most {@link TaskSpecification#MAX_SEARCH_RESULTS} tasks; a broader
+     * query is rejected with 400 Bad Request rather than silently truncated.
+     * </p>
      *
      * @param params contains filter params;
+     * @param page   contains paging params;
      * @return a list of {@link TaskDTO} with a total count in the response header.
      */
     @GetMapping("/tasks")
-    public ResponseEntity<List<TaskDTO>> index(TaskParamsDTO params) {
-        var listDTO = service.getAll(params);
-        var count = service.totalCount();
-        return ResponseEntity.ok()
-                .header("X-Total-Count", String.valueOf(count))
-                .body(listDTO);
+    public ResponseEntity<List<TaskDTO>> index(TaskParamsDTO params, TaskPageParamsDTO page) {
+        var response = ResponseEntity.ok();
+        List<TaskDTO> listDTO;
+        if (page.isCursorPage()) {
+            var cursorPage = service.getPage(params, page.after(), page.limit());
+            if (cursorPage.getNextCursor() != null) {
+                response.header("X-Next-Cursor", cursorPage.getNextCursor());
+            }
+            listDTO = cursorPage.getContent();
+        } else if (page.isOffsetPage()) {
+            listDTO = service.getRange(params, page.start(), page.end(), page.sort(), page.order());
+        } else {
+            listDTO = service.getAll(params);
+        }
+
+        if (page.isCountRequired()) {
+            var isWholeList = !page.isCursorPage() && !page.isOffsetPage();
+            var count = isWholeList ? listDTO.size() : service.count(params);
+            response.header("X-Total-Count", String.valueOf(count));
+        }
+        return response.body(listDTO);
+    }
+
+    /**
+     * Streams all tasks as newline-delimited JSON.
+     * <p>
+     * Selected with {@code Accept: application/x-ndjson}. Each task is written as soon as it is read,
+     * so memory stays flat even for a full export.
+     * </p>
+     *
+     * @param params   contains filter params;
+     * @param response the response to write the tasks to.
+     * @throws IOException if the response cannot be written.
+     */
+    @GetMapping(value = "/tasks", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void stream(TaskParamsDTO params, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        var writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (var generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.setRootValueSeparator(null);
+            service.stream(params, task -> writeLine(generator, writer, task));
+        }
     }
 
     /**
      * Retrieves a specific task by its ID.
+     * <p>
+     * The task version is sent in the {@code ETag} header, to be echoed in {@code If-Match} on writes.
+     * </p>
      *
      * @param id the ID of the task
      * @return the {@link TaskDTO} of the requested task
      */
     @GetMapping("/tasks/{id}")
-    @ResponseStatus(HttpStatus.OK)
-    public TaskDTO show(@PathVariable Long id) {
-        return service.getById(id);
+    public ResponseEntity<TaskDTO> show(@PathVariable Long id) {
+        var task = service.getById(id);
+        return ResponseEntity.ok().eTag(ETagUtils.format(task.getVersion())).body(task);
     }
 
     /**
@@ -69,27 +140,97 @@ public class TaskController {
         return service.create(createDTO);
     }
 
+    /**
+     * Creates many tasks at once.
+     * <p>
+     * Items are validated and written independently: the response lists, in request order,
+     * either the created task or the reason the item was rejected.
+     * </p>
+     *
+     * @param createDTOs the tasks to create
+     * @return a {@link TaskBatchResultDTO} with the outcome of every item
+     */
+    @PostMapping("/tasks/batch")
+    @ResponseStatus(HttpStatus.OK)
+    public TaskBatchResultDTO createBatch(@RequestBody List<TaskCreateDTO> createDTOs) {
+        return bulkService.create(createDTOs);
+    }
+
+    /**
+     * Applies the same change to many tasks at once.
+     * <p>
+     * Tasks are selected either by {@code ids} or by a {@code filter} with the listing params; the change
+     * can move them to a status, (un)assign them and add or remove labels.
+     * </p>
+     *
+     * @param updateDTO the selection and the change to apply
+     * @return a {@link TaskBulkResultDTO} with the number of updated tasks
+     */
+    @PatchMapping("/tasks/batch")
+    @ResponseStatus(HttpStatus.OK)
+    public TaskBulkResultDTO updateBatch(@RequestBody TaskBulkUpdateDTO updateDTO) {
+        return bulkService.update(updateDTO);
+    }
+
+    /**
+     * Deletes many tasks at once.
+     * <p>
+     * Tasks are selected either by {@code ids} or by a {@code filter} with the listing params.
+     * </p>
+     *
+     * @param deleteDTO the selection of tasks to delete
+     * @return a {@link TaskBulkResultDTO} with the number of deleted tasks
+     */
+    @PostMapping("/tasks/batch/delete")
+    @ResponseStatus(HttpStatus.OK)
+    public TaskBulkResultDTO deleteBatch(@RequestBody TaskBulkDeleteDTO deleteDTO) {
+        return bulkService.delete(deleteDTO);
+    }
+
     /**
      * Updates an existing task.
+     * <p>
+     * With {@code If-Match} the update only applies if the task is still at one of the listed versions,
+     * otherwise 412 Precondition Failed is returned; a write racing with this one gives 409 Conflict.
+     * </p>
      *
      * @param id the ID of the task to update
+     * @param ifMatch the {@code ETag} the client last read, optional
      * @param updateDTO the updated task data
-     * @return the updated {@link TaskDTO}
+     * @return the updated {@link TaskDTO} with its new {@code ETag}
      */
     @PutMapping("/tasks/{id}")
-    @ResponseStatus(HttpStatus.OK)
-    public TaskDTO update(@PathVariable Long id, @RequestBody @Valid TaskUpdateDTO updateDTO) {
-        return service.update(updateDTO, id);
+    public ResponseEntity<TaskDTO> update(@PathVariable Long id,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                          String ifMatch,
+                                          @RequestBody @Valid TaskUpdateDTO updateDTO) {
+        var task = service.update(updateDTO, id, ETagUtils.parse(ifMatch));
+        return ResponseEntity.ok().eTag(ETagUtils.format(task.getVersion())).body(task);
     }
 
     /**
      * Deletes a task by its ID.
+     * <p>
+     * With {@code If-Match} the task is only deleted if it exists at one of the listed versions,
+     * otherwise 412 Precondition Failed is returned.
+     * </p>
      *
      * @param id the ID of the task to delete
+     * @param ifMatch the {@code ETag} the client last read, optional
      */
     @DeleteMapping("/tasks/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void delete(@PathVariable Long id) {
-        service.delete(id);
+    public void delete(@PathVariable Long id,
+                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        service.delete(id, ETagUtils.parse(ifMatch));
+    }
+
+    private static void writeLine(JsonGenerator generator, ObjectWriter writer, TaskDTO task) {
+        try {
+            writer.writeValue(generator, task);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
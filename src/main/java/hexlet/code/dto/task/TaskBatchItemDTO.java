@@ -0,0 +1,12 @@
+package hexlet.code.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TaskBatchItemDTO {
+    private int index;
+    private TaskDTO task;
+    private String error;
+}
@@ -0,0 +1,14 @@
+package hexlet.code.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class TaskBatchResultDTO {
+    private int created;
+    private int failed;
+    private List<TaskBatchItemDTO> items;
+}
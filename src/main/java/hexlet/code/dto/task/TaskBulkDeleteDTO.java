@@ -0,0 +1,11 @@
+package hexlet.code.dto.task;
+
+import lombok.Data;
+
+import java.util.Set;
+
+@Data
+public class TaskBulkDeleteDTO {
+    private Set<Long> ids;
+    private TaskParamsDTO filter;
+}
@@ -0,0 +1,10 @@
+package hexlet.code.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TaskBulkResultDTO {
+    private long affected;
+}
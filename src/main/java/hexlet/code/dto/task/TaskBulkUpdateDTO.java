@@ -0,0 +1,21 @@
+package hexlet.code.dto.task;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import org.openapitools.jackson.nullable.JsonNullable;
+
+import java.util.Set;
+
+@Data
+public class TaskBulkUpdateDTO {
+    private Set<Long> ids;
+    private TaskParamsDTO filter;
+
+    private String status;
+
+    @JsonProperty("assignee_id")
+    private JsonNullable<Long> assigneeId = JsonNullable.undefined();
+
+    private Set<Long> addLabelIds;
+    private Set<Long> removeLabelIds;
+}
@@ -0,0 +1,13 @@
+package hexlet.code.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class TaskCursorPageDTO {
+    private List<TaskDTO> content;
+    private String nextCursor;
+}
@@ -1,5 +1,6 @@
 package hexlet.code.dto.task;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
@@ -19,4 +20,7 @@ public class TaskDTO {
     private String content;
     private String status;
     private List<Long> taskLabelIds;
+
+    @JsonIgnore
+    private Long version;
 }
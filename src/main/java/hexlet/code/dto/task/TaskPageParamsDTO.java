@@ -0,0 +1,41 @@
+package hexlet.code.dto.task;
+
+import org.springframework.web.bind.annotation.BindParam;
+
+/**
+ * Paging parameters of the task listing.
+ * <p>
+ * Supports two modes: keyset pagination ({@code after}/{@code limit}) and react-admin style
+ * offset pagination ({@code _start}/{@code _end}/{@code _sort}/{@code _order}).
+ * {@code _count=false} lets clients skip the total count query.
+ * </p>
+ *
+ * @param after the cursor returned with the previous page.
+ * @param limit the maximum number of tasks per cursor page.
+ * @param start the offset of the first task of the range.
+ * @param end   the offset right after the last task of the range.
+ * @param sort  the DTO field to sort the range by.
+ * @param order the sort direction, {@code ASC} or {@code DESC}.
+ * @param count whether the total count is required.
+ */
+public record TaskPageParamsDTO(
+        String after,
+        Integer limit,
+        @BindParam("_start") Integer start,
+        @BindParam("_end") Integer end,
+        @BindParam("_sort") String sort,
+        @BindParam("_order") String order,
+        @BindParam("_count") Boolean count) {
+
+    public boolean isCursorPage() {
+        return after != null || limit != null;
+    }
+
+    public boolean isOffsetPage() {
+        return start != null || end != null || sort != null;
+    }
+
+    public boolean isCountRequired() {
+        return count == null || count;
+    }
+}
@@ -2,10 +2,41 @@ package hexlet.code.dto.task;
 
 import lombok.Data;
 
+import java.util.Set;
+
 @Data
 public class TaskParamsDTO {
     private String titleCont;
+    private String contentCont;
+    private String search;
     private Long assigneeId;
     private String status;
     private Long labelId;
+    private Set<Long> assigneeIdIn;
+    private Set<String> statusIn;
+    private Set<Long> labelIdIn;
+    private Set<Long> labelIdAll;
+
+    /**
+     * Checks whether any filter is set.
+     *
+     * @return {@code true} if at least one filter narrows the task list.
+     */
+    public boolean hasFilter() {
+        return titleCont != null || contentCont != null || search != null || assigneeId != null
+                || status != null || labelId != null || hasMultiValueFilter();
+    }
+
+    /**
+     * Checks whether any of the "any of" / "all of" filters is set.
+     *
+     * @return {@code true} if at least one multi-value filter has values.
+     */
+    public boolean hasMultiValueFilter() {
+        return isPresent(assigneeIdIn) || isPresent(statusIn) || isPresent(labelIdIn) || isPresent(labelIdAll);
+    }
+
+    private static boolean isPresent(Set<?> values) {
+        return values != null && !values.isEmpty();
+    }
 }
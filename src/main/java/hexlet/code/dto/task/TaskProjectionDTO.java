@@ -0,0 +1,27 @@
+package hexlet.code.dto.task;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Flat read-only projection of a task row, selected without hydrating the {@code Task} entity.
+ *
+ * @param id          the task id.
+ * @param index       the task index.
+ * @param createdAt   the creation date.
+ * @param assigneeId  the id of the assignee, {@code null} if the task is unassigned.
+ * @param status      the slug of the task status.
+ * @param name        the task name.
+ * @param description the task description.
+ * @param labelIds    the ids of the task labels.
+ */
+public record TaskProjectionDTO(
+        Long id,
+        Integer index,
+        LocalDate createdAt,
+        Long assigneeId,
+        String status,
+        String name,
+        String description,
+        List<Long> labelIds) {
+}
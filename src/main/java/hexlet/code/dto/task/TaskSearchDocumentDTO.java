@@ -0,0 +1,11 @@
+package hexlet.code.dto.task;
+
+/**
+ * The searchable text of a task, as read when the search index is rebuilt.
+ *
+ * @param id          the task id.
+ * @param name        the task name.
+ * @param description the task description.
+ */
+public record TaskSearchDocumentDTO(Long id, String name, String description) {
+}
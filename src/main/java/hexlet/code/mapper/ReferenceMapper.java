@@ -1,24 +1,26 @@
 package hexlet.code.mapper;
 
+import hexlet.code.exception.ResourceNotFoundException;
 import hexlet.code.model.BaseEntity;
+import hexlet.code.utils.ExceptionMessage;
 import jakarta.persistence.EntityManager;
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingConstants;
-import org.mapstruct.TargetType;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import java.util.Collections;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 
 /**
  * A utility class for handling reference entity mappings.
  * <p>
- * This class provides methods for converting entity identifiers (IDs)
- * into entity instances using the {@link EntityManager}. It also allows
- * conversion of entity collections into ID lists.
+ * This class converts entity collections into ID lists using the {@link EntityManager}, and loads sets
+ * of IDs with one query per entity type instead of one per ID. The references of tasks are resolved by
+ * {@link hexlet.code.component.reference.TaskReferenceResolver} instead.
  * </p>
  */
 @Mapper(
@@ -30,39 +32,42 @@ public abstract class ReferenceMapper {
     private EntityManager entityManager;
 
     /**
-     * Converts an ID to an entity of the specified type using the {@link EntityManager}.
+     * Loads the entities of the specified type with the given IDs using a single {@code IN} query.
      * <p>
-     * If the given ID is {@code null}, this method returns {@code null}.
-     * Otherwise, it retrieves the entity from the database based on the provided ID.
+     * Entities already attached to the persistence context are returned as they are. {@code null} IDs
+     * are ignored.
      * </p>
      *
-     * @param id          the ID of the entity to retrieve.
-     * @param entityClass the class type of the entity to return.
+     * @param identifiers the IDs of the entities to load.
+     * @param entityClass the class type of the entities.
      * @param <T>         the type of the entity, which must extend {@link BaseEntity}.
-     * @return the entity corresponding to the given ID, or {@code null} if the ID is {@code null}.
+     * @return the loaded entities by ID.
+     * @throws ResourceNotFoundException if some of the entities do not exist, listing all missing IDs.
      */
-    protected <T extends BaseEntity> T toEntity(Long id, @TargetType Class<T> entityClass) {
-        return id == null ? null : entityManager.find(entityClass, id);
-    }
-
-    /**
-     * Converts a set of entity IDs to a set of entity instances of the specified type.
-     * <p>
-     * This method retrieves each entity from the database using its ID.
-     * If the input set is {@code null}, an empty set is returned.
-     * </p>
-     *
-     * @param identifiers a set of entity IDs to convert.
-     * @param entityClass the class type of the entity.
-     * @param <T>         the type of the entity, which must extend {@link BaseEntity}.
-     * @return a set of entity instances corresponding to the given IDs.
-     */
-    protected <T extends BaseEntity> Set<T> mapSetLongToSetEntity(Set<Long> identifiers,
-                                                                  @TargetType Class<T> entityClass) {
-        return (identifiers == null) ? Collections.emptySet() : identifiers.stream()
-                .map(id -> toEntity(id, entityClass))
+    public <T extends BaseEntity> Map<Long, T> findAllById(Collection<Long> identifiers, Class<T> entityClass) {
+        var ids = identifiers.stream()
                 .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(entityClass);
+        var root = query.from(entityClass);
+        var idAttribute = entityManager.getMetamodel().entity(entityClass).getId(Long.class);
+        query.where(root.get(idAttribute).in(ids));
+
+        var entities = entityManager.createQuery(query).getResultStream()
+                .collect(Collectors.toMap(this::getEntityId, Function.identity()));
+        if (entities.size() < ids.size()) {
+            var missing = ids.stream()
+                    .filter(id -> !entities.containsKey(id))
+                    .sorted()
+                    .toList();
+            throw new ResourceNotFoundException(ExceptionMessage.entitiesNotFoundMessage(entityClass, missing));
+        }
+        return entities;
     }
 
     /**
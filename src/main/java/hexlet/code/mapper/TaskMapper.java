@@ -1,24 +1,21 @@
 package hexlet.code.mapper;
 
+import hexlet.code.component.reference.TaskReferences;
 import hexlet.code.dto.task.TaskCreateDTO;
 import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.task.TaskProjectionDTO;
 import hexlet.code.dto.task.TaskUpdateDTO;
 import hexlet.code.model.Label;
 import hexlet.code.model.Task;
-import hexlet.code.repository.LabelRepository;
-import lombok.extern.log4j.Log4j2;
 import org.mapstruct.AfterMapping;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 import org.mapstruct.MappingTarget;
-import org.mapstruct.Named;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.mapstruct.ReportingPolicy;
-import org.springframework.beans.factory.annotation.Autowired;
-
-import java.util.HashSet;
-import java.util.Set;
+import org.openapitools.jackson.nullable.JsonNullable;
 
 /**
  * A mapper for converting between {@link Task}, {@link TaskDTO}, {@link TaskCreateDTO},
@@ -28,21 +25,14 @@ import java.util.Set;
  * It also maps task properties like labels, assignee, and status between the corresponding objects.
  * </p>
  */
-@Log4j2
 @Mapper(
-        uses = {JsonNullableMapper.class, ReferenceMapper.class, TaskStatusMapper.class},
+        uses = JsonNullableMapper.class,
         nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE,
         componentModel = MappingConstants.ComponentModel.SPRING,
         unmappedTargetPolicy = ReportingPolicy.IGNORE
 )
 public abstract class TaskMapper implements BaseMapper {
 
-    @Autowired
-    private LabelRepository labelRepository;
-
-    @Autowired
-    private ReferenceMapper referenceMapper;
-
     /**
      * Maps a {@link Task} entity to a {@link TaskDTO}.
      * <p>
@@ -60,73 +50,102 @@ public abstract class TaskMapper implements BaseMapper {
     @Mapping(source = "taskStatus.slug", target = "status")
     public abstract TaskDTO map(Task task);
 
+    /**
+     * Maps a {@link TaskProjectionDTO} read by the list queries to a {@link TaskDTO}.
+     *
+     * @param projection the {@link TaskProjectionDTO} to map.
+     * @return the corresponding {@link TaskDTO}.
+     */
+    @Mapping(source = "labelIds", target = "taskLabelIds")
+    @Mapping(source = "name", target = "title")
+    @Mapping(source = "description", target = "content")
+    public abstract TaskDTO map(TaskProjectionDTO projection);
+
     /**
      * Maps a {@link TaskCreateDTO} to a {@link Task} entity.
      * <p>
-     * This method maps the fields from the create DTO to the task entity,
-     * including task labels, assignee, and status.
+     * This method maps the fields from the create DTO to the task entity; task labels, assignee,
+     * and status are taken from the references loaded for the request.
      * </p>
      *
-     * @param createDTO the {@link TaskCreateDTO} to map.
+     * @param createDTO  the {@link TaskCreateDTO} to map.
+     * @param references the statuses, users and labels loaded for the request.
      * @return the corresponding {@link Task} entity.
      */
     @Mapping(source = "title", target = "name")
     @Mapping(source = "content", target = "description")
-    @Mapping(source = "status", target = "taskStatus")
-    @Mapping(source = "assigneeId", target = "assignee")
-    @Mapping(source = "taskLabelIds", target = "labels")
-    public abstract Task map(TaskCreateDTO createDTO);
+    @Mapping(target = "taskStatus", ignore = true)
+    @Mapping(target = "assignee", ignore = true)
+    @Mapping(target = "labels", ignore = true)
+    public abstract Task map(TaskCreateDTO createDTO, @Context TaskReferences references);
 
     /**
      * Updates an existing {@link Task} entity using data from a {@link TaskUpdateDTO}.
      * <p>
-     * This method updates the task entity with new data, including task labels,
-     * assignee, and status.
+     * This method updates the task entity with new data; task labels, assignee, and status
+     * are taken from the references loaded for the request.
      * </p>
      *
-     * @param updateDTO the {@link TaskUpdateDTO} containing the updated data.
-     * @param entity    the {@link Task} entity to update.
+     * @param updateDTO  the {@link TaskUpdateDTO} containing the updated data.
+     * @param entity     the {@link Task} entity to update.
+     * @param references the statuses, users and labels loaded for the request.
      */
     @Mapping(source = "title", target = "name")
     @Mapping(source = "content", target = "description")
-    @Mapping(source = "status", target = "taskStatus")
-    @Mapping(source = "assigneeId", target = "assignee")
-    @Mapping(source = "taskLabelIds", target = "labels", qualifiedByName = "convertTaskLabelIdsToLabels")
-    public abstract void update(TaskUpdateDTO updateDTO, @MappingTarget Task entity);
+    @Mapping(target = "taskStatus", ignore = true)
+    @Mapping(target = "assignee", ignore = true)
+    @Mapping(target = "labels", ignore = true)
+    public abstract void update(TaskUpdateDTO updateDTO, @MappingTarget Task entity,
+                                @Context TaskReferences references);
 
     /**
-     * Sets the labels for a task entity after mapping from {@link TaskCreateDTO}.
-     * <p>
-     * This method is executed after the primary mapping process to ensure that labels
-     * are properly fetched from the database and assigned to the {@link Task} entity.
-     * </p>
+     * Sets the references of a task entity after mapping from {@link TaskCreateDTO}.
      *
-     * @param createDTO The DTO containing label IDs.
-     * @param task      The task entity where the labels will be set.
+     * @param createDTO  the DTO containing the status slug, assignee ID and label IDs.
+     * @param task       the task entity where the references will be set.
+     * @param references the statuses, users and labels loaded for the request.
      */
     @AfterMapping
-    protected void setLabels(TaskCreateDTO createDTO, @MappingTarget Task task) {
-        if (createDTO.getTaskLabelIds() != null) {
-            var labels = labelRepository.findAllById(createDTO.getTaskLabelIds());
-            task.setLabels(new HashSet<>((labels)));
-        }
+    protected void setReferences(TaskCreateDTO createDTO, @MappingTarget Task task,
+                                 @Context TaskReferences references) {
+        task.setTaskStatus(references.getStatus(createDTO.getStatus()));
+        task.setAssignee(references.getUser(createDTO.getAssigneeId()));
+        task.setLabels(references.getLabels(createDTO.getTaskLabelIds()));
     }
+
     /**
-     * Converts a set of task label IDs into a set of {@link Label} entities.
-     * <p>
-     * This method is used by MapStruct to automatically map sets of label IDs
-     * into corresponding label entities using {@link ReferenceMapper}.
-     * </p>
+     * Sets the references present in a {@link TaskUpdateDTO} on a task entity after mapping.
      *
-     * @param taskLabelIds The set of label IDs to convert.
-     * @return The corresponding set of {@link Label} entities.
+     * @param updateDTO  the DTO containing the status slug, assignee ID and label IDs.
+     * @param task       the task entity where the references will be set.
+     * @param references the statuses, users and labels loaded for the request.
      */
-    @Named("convertTaskLabelIdsToLabels")
-    public Set<Label> convertTaskLabelIdsToLabels(Set<Long> taskLabelIds) {
-        return referenceMapper.mapSetLongToSetEntity(taskLabelIds, Label.class);
+    @AfterMapping
+    protected void setReferences(TaskUpdateDTO updateDTO, @MappingTarget Task task,
+                                 @Context TaskReferences references) {
+        if (isPresent(updateDTO.getStatus())) {
+            task.setTaskStatus(references.getStatus(updateDTO.getStatus().get()));
+        }
+        if (isPresent(updateDTO.getAssigneeId())) {
+            task.setAssignee(references.getUser(updateDTO.getAssigneeId().get()));
+        }
+        if (isPresent(updateDTO.getTaskLabelIds())) {
+            task.setLabels(references.getLabels(updateDTO.getTaskLabelIds().get()));
+        }
     }
 
+    /**
+     * Maps a label of a task to its id, for {@link TaskDTO#getTaskLabelIds()}.
+     *
+     * @param label the label.
+     * @return the label id.
+     */
+    protected Long toLabelId(Label label) {
+        return label.getId();
+    }
 
-
+    private static boolean isPresent(JsonNullable<?> value) {
+        return value != null && value.isPresent();
+    }
 }
 
@@ -1,5 +1,7 @@
 package hexlet.code.model;
 
+import hexlet.code.component.cache.TaskCacheInvalidatorListener;
+import hexlet.code.component.counter.EntityCountersListener;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
@@ -9,7 +11,11 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -24,13 +30,23 @@ import java.util.Set;
 
 @Entity
 @Table(name = "tasks")
+@NamedEntityGraph(
+        name = Task.WITH_ASSOCIATIONS_GRAPH,
+        attributeNodes = {
+            @NamedAttributeNode("taskStatus"),
+            @NamedAttributeNode("assignee"),
+            @NamedAttributeNode("labels")
+        }
+)
 @Data
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, TaskCacheInvalidatorListener.class, EntityCountersListener.class})
 @ToString
 public final class Task implements BaseEntity {
+    public static final String WITH_ASSOCIATIONS_GRAPH = "Task.withAssociations";
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -62,6 +78,9 @@ public final class Task implements BaseEntity {
     @CreatedDate
     private LocalDate createdAt;
 
+    @Version
+    private Long version;
+
     public void addLabel(Label label) {
         labels.add(label);
     }
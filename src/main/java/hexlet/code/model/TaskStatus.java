@@ -1,28 +1,40 @@
 package hexlet.code.model;
 
+import hexlet.code.component.cache.TaskCacheInvalidatorListener;
+import hexlet.code.component.cache.TaskStatusRegistryListener;
+import hexlet.code.component.counter.EntityCountersListener;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDate;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "task_statuses")
 @Data
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, TaskCacheInvalidatorListener.class, TaskStatusRegistryListener.class,
+    EntityCountersListener.class})
 public class TaskStatus implements BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_statuses_seq")
+    @SequenceGenerator(name = "task_statuses_seq", sequenceName = "task_statuses_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -37,4 +49,7 @@ public class TaskStatus implements BaseEntity {
     @CreatedDate
     private LocalDate createdAt;
 
+    @Version
+    private Long version;
+
 }
@@ -1,10 +1,26 @@
 package hexlet.code.repository;
 
+import hexlet.code.dto.task.TaskSearchDocumentDTO;
 import hexlet.code.model.Task;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskRepositoryCustom {
+
+    @Override
+    @EntityGraph(Task.WITH_ASSOCIATIONS_GRAPH)
+    Optional<Task> findById(Long id);
+
+    @Query("select new hexlet.code.dto.task.TaskSearchDocumentDTO(t.id, t.name, t.description) from Task t"
+            + " where t.id > :afterId order by t.id")
+    List<TaskSearchDocumentDTO> findSearchDocuments(Long afterId, Pageable pageable);
 }
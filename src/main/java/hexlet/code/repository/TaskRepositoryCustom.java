@@ -0,0 +1,62 @@
+package hexlet.code.repository;
+
+import hexlet.code.dto.task.TaskProjectionDTO;
+import hexlet.code.model.Task;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Custom query fragment for {@link TaskRepository}.
+ * <p>
+ * Holds the list queries that Spring Data cannot derive on its own. They select flat
+ * {@link TaskProjectionDTO} rows instead of managed entities, so large listings skip entity hydration,
+ * dirty-checking snapshots and the per-row association loading.
+ * </p>
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Loads all tasks matching the specification as projections.
+     *
+     * @param specification the filter to apply, may be {@code null}.
+     * @param sort          the order of the result.
+     * @return the matching task projections.
+     */
+    List<TaskProjectionDTO> findProjections(Specification<Task> specification, Sort sort);
+
+    /**
+     * Loads a window of tasks matching the specification as projections, without issuing a count query.
+     *
+     * @param specification the filter to apply, may be {@code null}.
+     * @param sort          the order of the window.
+     * @param offset        the number of matching rows to skip.
+     * @param limit         the maximum number of rows to return.
+     * @return the task projections of the requested window.
+     */
+    List<TaskProjectionDTO> findProjections(Specification<Task> specification, Sort sort, long offset, int limit);
+
+    /**
+     * Streams all tasks matching the specification as projections, ordered by id.
+     * <p>
+     * Rows are pulled through a database cursor with the given fetch size, and label ids are resolved
+     * once per fetched chunk. The stream must be consumed inside a transaction and closed afterwards.
+     * </p>
+     *
+     * @param specification the filter to apply, may be {@code null}.
+     * @param fetchSize     the number of rows fetched per round-trip.
+     * @return a lazily populated stream of task projections.
+     */
+    Stream<TaskProjectionDTO> streamProjections(Specification<Task> specification, int fetchSize);
+
+    /**
+     * Loads the ids of the first tasks matching the specification, in ascending order.
+     *
+     * @param specification the filter to apply, may be {@code null}.
+     * @param limit         the maximum number of ids to return.
+     * @return the ids of the matching tasks.
+     */
+    List<Long> findIds(Specification<Task> specification, int limit);
+}
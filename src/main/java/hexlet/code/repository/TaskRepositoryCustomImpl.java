@@ -0,0 +1,180 @@
+package hexlet.code.repository;
+
+import hexlet.code.dto.task.TaskProjectionDTO;
+import hexlet.code.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import lombok.AllArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+@AllArgsConstructor
+public final class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<TaskProjectionDTO> findProjections(Specification<Task> specification, Sort sort) {
+        var rows = entityManager.createQuery(buildRowsQuery(specification, sort))
+                .getResultList();
+        return rows.isEmpty() ? List.of() : toProjections(rows, findLabelIds(specification));
+    }
+
+    @Override
+    public List<TaskProjectionDTO> findProjections(Specification<Task> specification, Sort sort,
+                                                   long offset, int limit) {
+        var rows = entityManager.createQuery(buildRowsQuery(specification, sort))
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        return toProjections(rows, findLabelIds(ids(rows)));
+    }
+
+    @Override
+    public Stream<TaskProjectionDTO> streamProjections(Specification<Task> specification, int fetchSize) {
+        var rows = entityManager.createQuery(buildRowsQuery(specification, Sort.by("id")))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+        var chunks = chunked(rows.iterator(), fetchSize);
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED), false)
+                .flatMap(chunk -> toProjections(chunk, findLabelIds(ids(chunk))).stream())
+                .onClose(rows::close);
+    }
+
+    @Override
+    public List<Long> findIds(Specification<Task> specification, int limit) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(Long.class);
+        var root = query.from(Task.class);
+
+        query.select(root.<Long>get("id"));
+        applySpecification(specification, root, query, cb);
+        query.orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private CriteriaQuery<Tuple> buildRowsQuery(Specification<Task> specification, Sort sort) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createTupleQuery();
+        var root = query.from(Task.class);
+        var assignee = root.join("assignee", JoinType.LEFT);
+
+        query.multiselect(
+                root.get("id").alias("id"),
+                root.get("index").alias("index"),
+                root.get("createdAt").alias("createdAt"),
+                assignee.get("id").alias("assigneeId"),
+                root.get("taskStatus").get("slug").alias("status"),
+                root.get("name").alias("name"),
+                root.get("description").alias("description"));
+        applySpecification(specification, root, query, cb);
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return query;
+    }
+
+    // Labels are aggregated with a second query over the same filter instead of a row per label.
+    private Map<Long, List<Long>> findLabelIds(Specification<Task> specification) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createTupleQuery();
+        var root = query.from(Task.class);
+        var label = root.join("labels");
+
+        query.multiselect(root.get("id").alias("taskId"), label.get("id").alias("labelId"));
+        applySpecification(specification, root, query, cb);
+        return groupLabelIds(entityManager.createQuery(query).getResultList());
+    }
+
+    private Map<Long, List<Long>> findLabelIds(Collection<Long> taskIds) {
+        var rows = entityManager.createQuery(
+                        "select t.id as taskId, l.id as labelId from Task t join t.labels l where t.id in :ids",
+                        Tuple.class)
+                .setParameter("ids", taskIds)
+                .getResultList();
+        return groupLabelIds(rows);
+    }
+
+    private static List<Long> ids(List<Tuple> rows) {
+        return rows.stream()
+                .map(row -> row.get("id", Long.class))
+                .toList();
+    }
+
+    private static Iterator<List<Tuple>> chunked(Iterator<Tuple> rows, int chunkSize) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+
+            @Override
+            public List<Tuple> next() {
+                var chunk = new ArrayList<Tuple>(chunkSize);
+                while (rows.hasNext() && chunk.size() < chunkSize) {
+                    chunk.add(rows.next());
+                }
+                return chunk;
+            }
+        };
+    }
+
+    private static Map<Long, List<Long>> groupLabelIds(List<Tuple> rows) {
+        var labelIds = new HashMap<Long, List<Long>>();
+        for (var row : rows) {
+            labelIds.computeIfAbsent(row.get("taskId", Long.class), id -> new ArrayList<>())
+                    .add(row.get("labelId", Long.class));
+        }
+        return labelIds;
+    }
+
+    private static List<TaskProjectionDTO> toProjections(List<Tuple> rows, Map<Long, List<Long>> labelIds) {
+        return rows.stream()
+                .map(row -> {
+                    var id = row.get("id", Long.class);
+                    return new TaskProjectionDTO(
+                            id,
+                            row.get("index", Integer.class),
+                            row.get("createdAt", LocalDate.class),
+                            row.get("assigneeId", Long.class),
+                            row.get("status", String.class),
+                            row.get("name", String.class),
+                            row.get("description", String.class),
+                            labelIds.getOrDefault(id, List.of()));
+                })
+                .toList();
+    }
+
+    private static void applySpecification(Specification<Task> specification, Root<Task> root,
+                                           CriteriaQuery<?> query, CriteriaBuilder cb) {
+        if (specification == null) {
+            return;
+        }
+        var predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package hexlet.code.service.task;
+
+import hexlet.code.component.cache.TaskCacheInvalidator;
+import hexlet.code.component.cache.TaskStatusRegistry;
+import hexlet.code.component.counter.EntityCounters;
+import hexlet.code.component.reference.TaskReferenceResolver;
+import hexlet.code.component.reference.TaskReferences;
+import hexlet.code.component.search.TaskIndex;
+import hexlet.code.component.specification.TaskSpecification;
+import hexlet.code.dto.task.TaskBatchItemDTO;
+import hexlet.code.dto.task.TaskBatchResultDTO;
+import hexlet.code.dto.task.TaskBulkDeleteDTO;
+import hexlet.code.dto.task.TaskBulkResultDTO;
+import hexlet.code.dto.task.TaskBulkUpdateDTO;
+import hexlet.code.dto.task.TaskCreateDTO;
+import hexlet.code.dto.task.TaskParamsDTO;
+import hexlet.code.exception.BadRequestException;
+import hexlet.code.exception.ResourceNotFoundException;
+import hexlet.code.mapper.ReferenceMapper;
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.service.BaseService;
+import hexlet.code.utils.ExceptionMessage;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validator;
+import lombok.AllArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Service for writing many tasks at once.
+ * <p>
+ * References are resolved for the whole request with one query per entity type, and rows are written
+ * in chunks, each in its own transaction, so a large request neither holds locks for its whole duration
+ * nor loses all its work to a single bad row.
+ * </p>
+ */
+@Service
+@AllArgsConstructor
+public final class TaskBulkService implements BaseService {
+    public static final int MAX_BATCH_SIZE = 10_000;
+    public static final int CHUNK_SIZE = 500;
+
+    private static final String TASK_LABELS_TABLE = "task_labels";
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskRepository taskRepository;
+    private final TaskSpecification taskSpecification;
+    private final TaskCacheInvalidator cacheInvalidator;
+    private final EntityCounters entityCounters;
+    private final TaskStatusRegistry taskStatusRegistry;
+    private final UserRepository userRepository;
+    private final TaskMapper mapper;
+    private final TaskReferenceResolver referenceResolver;
+    private final ReferenceMapper referenceMapper;
+    private final Validator validator;
+    private final List<TaskIndex> taskIndexes;
+
+    /**
+     * Creates the given tasks, reporting the outcome of every item in request order.
+     * <p>
+     * Invalid items and items referencing unknown statuses, assignees or labels are reported as failed
+     * without being written. If a chunk is rejected by the database, its items are retried one by one
+     * so that only the offending ones fail.
+     * </p>
+     *
+     * @param createDTOs the tasks to create.
+     * @return the created tasks and the errors, indexed by position in the request.
+     */
+    public TaskBatchResultDTO create(List<TaskCreateDTO> createDTOs) {
+        if (createDTOs.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("A batch can contain at most " + MAX_BATCH_SIZE + " tasks");
+        }
+
+        var references = referenceResolver.resolve(createDTOs);
+
+        var items = new TaskBatchItemDTO[createDTOs.size()];
+        var pending = new ArrayList<PendingTask>();
+        for (var i = 0; i < createDTOs.size(); i++) {
+            var createDTO = createDTOs.get(i);
+            var error = validate(createDTO, references);
+            if (error != null) {
+                items[i] = new TaskBatchItemDTO(i, null, error);
+            } else {
+                pending.add(new PendingTask(i, mapper.map(createDTO, references)));
+            }
+        }
+
+        for (var from = 0; from < pending.size(); from += CHUNK_SIZE) {
+            persist(pending.subList(from, Math.min(from + CHUNK_SIZE, pending.size())), items);
+        }
+
+        var created = (int) Arrays.stream(items).filter(item -> item.getError() == null).count();
+        return new TaskBatchResultDTO(created, items.length - created, List.of(items));
+    }
+
+    /**
+     * Applies one patch to the tasks selected by an id list or by a filter.
+     * <p>
+     * Tasks are processed in id order in chunks, each in its own transaction, with one {@code UPDATE}
+     * of the task columns and version and one statement each for added and removed labels.
+     * </p>
+     *
+     * @param updateDTO the selection and the changes to apply.
+     * @return the number of updated tasks.
+     */
+    public TaskBulkResultDTO update(TaskBulkUpdateDTO updateDTO) {
+        var patch = toPatch(updateDTO);
+        var affected = forEachChunk(updateDTO.getIds(), updateDTO.getFilter(), ids -> applyPatch(patch, ids));
+        return new TaskBulkResultDTO(affected);
+    }
+
+    /**
+     * Deletes the tasks selected by an id list or by a filter.
+     * <p>
+     * Tasks are processed in id order in chunks, each in its own transaction, removing the label links
+     * and then the tasks with one {@code DELETE} each, so locks and undo stay bounded by the chunk size.
+     * </p>
+     *
+     * @param deleteDTO the selection of tasks to delete.
+     * @return the number of deleted tasks.
+     */
+    public TaskBulkResultDTO delete(TaskBulkDeleteDTO deleteDTO) {
+        var affected = forEachChunk(deleteDTO.getIds(), deleteDTO.getFilter(), this::deleteChunk);
+        return new TaskBulkResultDTO(affected);
+    }
+
+    // Runs the statement in one transaction per chunk of existing task ids; index changes apply on its commit.
+    private long forEachChunk(Set<Long> ids, TaskParamsDTO filter, Consumer<List<Long>> statement) {
+        if ((ids == null) == (filter == null)) {
+            throw new BadRequestException("Exactly one of ids and filter must be given");
+        }
+        if (ids != null && ids.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("At most " + MAX_BATCH_SIZE + " ids can be given");
+        }
+
+        var specification = ids == null ? taskSpecification.build(filter) : taskSpecification.withIdIn(ids);
+        var affected = 0L;
+        var afterId = 0L;
+        List<Long> chunk;
+        try {
+            do {
+                var chunkSpecification = specification.and(taskSpecification.withIdGreaterThan(afterId));
+                chunk = transactionTemplate.execute(status -> {
+                    var chunkIds = taskRepository.findIds(chunkSpecification, CHUNK_SIZE);
+                    if (!chunkIds.isEmpty()) {
+                        statement.accept(chunkIds);
+                    }
+                    return chunkIds;
+                });
+                if (!chunk.isEmpty()) {
+                    affected += chunk.size();
+                    afterId = chunk.getLast();
+                }
+            } while (chunk.size() == CHUNK_SIZE);
+        } finally {
+            // The statements bypass the entity listeners, and the chunks committed before a failure stay.
+            cacheInvalidator.evictAll();
+        }
+        return affected;
+    }
+
+    private void applyPatch(TaskPatch patch, List<Long> ids) {
+        // Label changes also bump the version, as they would through the entity, so stale ETags fail.
+        var jpql = new StringBuilder("update Task t set t.version = t.version + 1");
+        if (patch.status() != null) {
+            jpql.append(", t.taskStatus = :status");
+        }
+        if (patch.assignee().isPresent()) {
+            jpql.append(", t.assignee = :assignee");
+        }
+        var update = entityManager.createQuery(jpql.append(" where t.id in :ids").toString())
+                .setParameter("ids", ids);
+        if (patch.status() != null) {
+            update.setParameter("status", patch.status());
+        }
+        if (patch.assignee().isPresent()) {
+            update.setParameter("assignee", patch.assignee().get());
+        }
+        update.executeUpdate();
+        if (!patch.addLabelIds().isEmpty()) {
+            entityManager.createNativeQuery("""
+                            INSERT INTO task_labels (task_id, label_id)
+                            SELECT t.id, l.id FROM tasks t CROSS JOIN labels l
+                            WHERE t.id IN (:ids) AND l.id IN (:labelIds)
+                              AND NOT EXISTS (SELECT 1 FROM task_labels tl
+                                              WHERE tl.task_id = t.id AND tl.label_id = l.id)""")
+                    .setHint(HibernateHints.HINT_NATIVE_SPACES, TASK_LABELS_TABLE)
+                    .setParameter("ids", ids)
+                    .setParameter("labelIds", patch.addLabelIds())
+                    .executeUpdate();
+        }
+        if (!patch.removeLabelIds().isEmpty()) {
+            entityManager.createNativeQuery(
+                            "DELETE FROM task_labels WHERE task_id IN (:ids) AND label_id IN (:labelIds)")
+                    .setHint(HibernateHints.HINT_NATIVE_SPACES, TASK_LABELS_TABLE)
+                    .setParameter("ids", ids)
+                    .setParameter("labelIds", patch.removeLabelIds())
+                    .executeUpdate();
+        }
+        // Read back in the same read-write transaction, so the rows come from the primary and include the patch.
+        taskRepository.findProjections(taskSpecification.withIdIn(ids), Sort.by("id"))
+                .forEach(task -> taskIndexes.forEach(index -> index.index(task)));
+    }
+
+    private void deleteChunk(List<Long> ids) {
+        entityManager.createNativeQuery("DELETE FROM task_labels WHERE task_id IN (:ids)")
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, TASK_LABELS_TABLE)
+                .setParameter("ids", ids)
+                .executeUpdate();
+        var deleted = entityManager.createQuery("delete from Task t where t.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        // Bulk statements bypass the entity listeners, so the counter is adjusted here.
+        entityCounters.adjust(Task.class, -deleted);
+        ids.forEach(id -> taskIndexes.forEach(index -> index.remove(id)));
+    }
+
+    private TaskPatch toPatch(TaskBulkUpdateDTO updateDTO) {
+        var slug = updateDTO.getStatus();
+        var status = taskStatusRegistry.find(slug);
+        if (slug != null && status == null) {
+            throw new ResourceNotFoundException(ExceptionMessage.entityNotFoundMessage(TaskStatus.class, slug));
+        }
+
+        var assigneeId = updateDTO.getAssigneeId() == null ? JsonNullable.<Long>undefined()
+                : updateDTO.getAssigneeId();
+        var assignee = assigneeId.isPresent()
+                ? JsonNullable.of(assigneeId.get() == null ? null : userRepository.findById(assigneeId.get())
+                        .orElseThrow(() -> new ResourceNotFoundException(
+                                ExceptionMessage.entityNotFoundMessage(User.class, assigneeId.get()))))
+                : JsonNullable.<User>undefined();
+
+        var addLabelIds = existingLabelIds(updateDTO.getAddLabelIds());
+        var removeLabelIds = updateDTO.getRemoveLabelIds() == null ? Set.<Long>of() : updateDTO.getRemoveLabelIds();
+        if (status == null && !assignee.isPresent() && addLabelIds.isEmpty() && removeLabelIds.isEmpty()) {
+            throw new BadRequestException("Nothing to update");
+        }
+        return new TaskPatch(status, assignee, addLabelIds, removeLabelIds);
+    }
+
+    private Set<Long> existingLabelIds(Set<Long> labelIds) {
+        if (labelIds == null || labelIds.isEmpty()) {
+            return Set.of();
+        }
+        referenceMapper.findAllById(labelIds, Label.class);
+        return labelIds;
+    }
+
+    private void persist(List<PendingTask> chunk, TaskBatchItemDTO[] items) {
+        try {
+            insert(chunk);
+        } catch (PersistenceException | DataAccessException e) {
+            // One bad row rolls the whole chunk back; retry row by row to pin the failure on the right items.
+            for (var pendingTask : chunk) {
+                pendingTask.task().setId(null);
+                pendingTask.task().setVersion(null);
+                try {
+                    insert(List.of(pendingTask));
+                } catch (PersistenceException | DataAccessException ex) {
+                    items[pendingTask.index()] = new TaskBatchItemDTO(pendingTask.index(), null,
+                            NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+                    continue;
+                }
+                items[pendingTask.index()] = created(pendingTask);
+            }
+            return;
+        }
+        chunk.forEach(pendingTask -> items[pendingTask.index()] = created(pendingTask));
+    }
+
+    private void insert(List<PendingTask> chunk) {
+        transactionTemplate.executeWithoutResult(status -> {
+            chunk.forEach(pendingTask -> entityManager.persist(pendingTask.task()));
+            entityManager.flush();
+        });
+        chunk.forEach(pendingTask -> taskIndexes.forEach(index -> index.index(pendingTask.task())));
+    }
+
+    private TaskBatchItemDTO created(PendingTask pendingTask) {
+        return new TaskBatchItemDTO(pendingTask.index(), mapper.map(pendingTask.task()), null);
+    }
+
+    private String validate(TaskCreateDTO createDTO, TaskReferences references) {
+        if (createDTO == null) {
+            return "task: must not be null";
+        }
+        var violations = validator.validate(createDTO);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (createDTO.getStatus() == null) {
+            return "status: must not be null";
+        }
+        if (references.findStatus(createDTO.getStatus()) == null) {
+            return ExceptionMessage.entityNotFoundMessage(TaskStatus.class, createDTO.getStatus());
+        }
+        if (createDTO.getAssigneeId() != null && references.findUser(createDTO.getAssigneeId()) == null) {
+            return ExceptionMessage.entityNotFoundMessage(User.class, createDTO.getAssigneeId());
+        }
+        return createDTO.getTaskLabelIds() == null ? null : createDTO.getTaskLabelIds().stream()
+                .filter(labelId -> labelId != null && references.findLabel(labelId) == null)
+                .map(labelId -> ExceptionMessage.entityNotFoundMessage(Label.class, labelId))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private record PendingTask(int index, Task task) {
+    }
+
+    private record TaskPatch(TaskStatus status, JsonNullable<User> assignee, Set<Long> addLabelIds,
+                             Set<Long> removeLabelIds) {
+    }
+}
@@ -1,39 +1,183 @@
 package hexlet.code.service.task;
 
+import hexlet.code.component.counter.EntityCounters;
+import hexlet.code.component.reference.TaskReferenceResolver;
+import hexlet.code.component.search.TaskFilterIndex;
+import hexlet.code.component.search.TaskIndex;
 import hexlet.code.component.specification.TaskSpecification;
+import hexlet.code.config.CacheConfig;
 import hexlet.code.dto.task.TaskCreateDTO;
+import hexlet.code.dto.task.TaskCursorPageDTO;
 import hexlet.code.dto.task.TaskDTO;
 import hexlet.code.dto.task.TaskParamsDTO;
+import hexlet.code.dto.task.TaskProjectionDTO;
 import hexlet.code.dto.task.TaskUpdateDTO;
+import hexlet.code.exception.BadRequestException;
+import hexlet.code.exception.PreconditionFailedException;
 import hexlet.code.exception.ResourceNotFoundException;
 import hexlet.code.mapper.TaskMapper;
 import hexlet.code.model.Task;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.service.BaseService;
+import hexlet.code.utils.CursorUtils;
+import hexlet.code.utils.ETagUtils;
 import hexlet.code.utils.ExceptionMessage;
 import lombok.AllArgsConstructor;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
+/**
+ * Service for reading and modifying tasks; every method runs in its own transaction.
+ * <p>
+ * Reads run in read-only transactions: the session loads entities read-only, so no dirty-checking snapshots
+ * are kept, and its flush mode is {@code MANUAL}, so commit skips the flush.
+ * </p>
+ */
 @Service
+@Transactional
 @AllArgsConstructor
-public final class TaskService implements BaseService {
+public class TaskService implements BaseService {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 1000;
+    public static final int STREAM_FETCH_SIZE = 500;
+
+    private static final Map<String, String> SORTABLE_FIELDS = Map.of(
+            "id", "id",
+            "index", "index",
+            "createdAt", "createdAt",
+            "title", "name",
+            "content", "description",
+            "status", "taskStatus.slug",
+            "assignee_id", "assignee.id",
+            "assigneeId", "assignee.id");
 
     private final TaskRepository taskRepository;
     private final TaskMapper mapper;
+    private final TaskReferenceResolver referenceResolver;
     private final TaskSpecification taskSpecification;
+    private final List<TaskIndex> taskIndexes;
+    private final EntityCounters entityCounters;
 
-
+    /**
+     * Retrieves all tasks matching the filter, ordered by id or, for a search query, by relevance.
+     * <p>
+     * Unlike the paged reads below, the whole list is not cached: its size has no bound.
+     * </p>
+     *
+     * @param params the filter params.
+     * @return the matching tasks.
+     */
+    @Transactional(readOnly = true)
     public List<TaskDTO> getAll(TaskParamsDTO params) {
-        Specification<Task> specification = taskSpecification.build(params);
-        List<Task> filteredEntities = taskRepository.findAll(specification);
-        return filteredEntities.stream()
+        var ranking = taskSpecification.search(params.getSearch());
+        var projections = findInIdOrder(params, ranking, null, Integer.MAX_VALUE).stream();
+        if (ranking != null) {
+            var positions = new HashMap<Long, Integer>();
+            ranking.forEach(id -> positions.put(id, positions.size()));
+            projections = projections.sorted(Comparator.comparing(projection -> positions.get(projection.id()),
+                    Comparator.nullsLast(Comparator.naturalOrder())));
+        }
+        return projections.map(mapper::map).toList();
+    }
+
+    /**
+     * Retrieves the tasks matching the filter one page at a time, ordered by id.
+     * <p>
+     * Pages and sorted ranges are cached per filter and page; any task write clears them.
+     * </p>
+     *
+     * @param params the filter params.
+     * @param after  the cursor returned with the previous page, or {@code null} for the first page.
+     * @param limit  the page size, or {@code null} for the default one.
+     * @return the page with the cursor of the next one.
+     */
+    @Cacheable(cacheNames = CacheConfig.TASK_LISTS, key = "{'page', #params, #after, #limit}")
+    @Transactional(readOnly = true)
+    public TaskCursorPageDTO getPage(TaskParamsDTO params, String after, Integer limit) {
+        var pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        var afterId = after == null ? null : CursorUtils.decode(after);
+        var window = findInIdOrder(params, taskSpecification.search(params.getSearch()), afterId, pageSize + 1);
+        var hasNext = window.size() > pageSize;
+        var content = hasNext ? window.subList(0, pageSize) : window;
+        var nextCursor = hasNext ? CursorUtils.encode(content.getLast().id()) : null;
+
+        return new TaskCursorPageDTO(content.stream().map(mapper::map).toList(), nextCursor);
+    }
+
+    /**
+     * Retrieves a sorted range of the tasks matching the filter.
+     *
+     * @param params    the filter params.
+     * @param start     the offset of the first task, inclusive.
+     * @param end       the offset of the last task, exclusive.
+     * @param sortField the DTO field to sort by.
+     * @param order     the sort direction.
+     * @return the tasks of the range.
+     */
+    @Cacheable(cacheNames = CacheConfig.TASK_LISTS,
+            key = "{'range', #params, #start, #end, #sortField, #order}")
+    @Transactional(readOnly = true)
+    public List<TaskDTO> getRange(TaskParamsDTO params, Integer start, Integer end, String sortField, String order) {
+        var offset = start == null ? 0 : Math.max(start, 0);
+        var pageSize = end == null ? DEFAULT_PAGE_SIZE : Math.clamp((long) end - offset, 0, MAX_PAGE_SIZE);
+        if (pageSize == 0) {
+            return List.of();
+        }
+        var specification = taskSpecification.build(params);
+        return taskRepository.findProjections(specification, toSort(sortField, order), offset, pageSize).stream()
                 .map(mapper::map)
                 .toList();
     }
 
+    /**
+     * Passes every task matching the filter to the consumer as it is read from the database.
+     * <p>
+     * Rows are pulled through a database cursor, so memory stays flat regardless of the result size.
+     * </p>
+     *
+     * @param params   the filter params.
+     * @param consumer receives the tasks ordered by id.
+     */
+    @Transactional(readOnly = true)
+    public void stream(TaskParamsDTO params, Consumer<TaskDTO> consumer) {
+        var specification = taskSpecification.build(params);
+        try (var projections = taskRepository.streamProjections(specification, STREAM_FETCH_SIZE)) {
+            projections.map(mapper::map).forEach(consumer);
+        }
+    }
+
+    /**
+     * Counts the tasks matching the filter; the unfiltered count is served by {@link EntityCounters}.
+     *
+     * @param params the filter params.
+     * @return the number of matching tasks.
+     */
+    @Cacheable(cacheNames = CacheConfig.TASK_COUNTS, key = "#params")
+    @Transactional(readOnly = true)
+    public Long count(TaskParamsDTO params) {
+        if (!params.hasFilter()) {
+            return entityCounters.get(Task.class);
+        }
+        return taskRepository.count(taskSpecification.build(params));
+    }
+
+    /**
+     * Retrieves a task by its id.
+     *
+     * @param id the task id.
+     * @return the task.
+     */
+    @Transactional(readOnly = true)
     public TaskDTO getById(Long id) {
         var entity = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -41,26 +185,119 @@ public final class TaskService implements BaseService {
         return mapper.map(entity);
     }
 
+    /**
+     * Creates a task.
+     *
+     * @param createDTO the task data.
+     * @return the created task.
+     */
+    @CacheEvict(cacheNames = {CacheConfig.TASK_LISTS, CacheConfig.TASK_COUNTS}, allEntries = true)
     public TaskDTO create(TaskCreateDTO createDTO) {
-        var entity = mapper.map(createDTO);
-        var saved = taskRepository.save(entity);
+        var entity = mapper.map(createDTO, referenceResolver.resolve(createDTO));
+        taskRepository.saveAndFlush(entity);
+        taskIndexes.forEach(index -> index.index(entity));
         return mapper.map(entity);
     }
 
-    public TaskDTO update(TaskUpdateDTO updateDTO, Long id) {
-        var entity = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        ExceptionMessage.entityNotFoundMessage(Task.class, id)));
-        mapper.update(updateDTO, entity);
-        taskRepository.save(entity);
+    /**
+     * Updates a task.
+     * <p>
+     * The write is a conditional {@code UPDATE ... WHERE version = ?}: if the task changed since it was read,
+     * either against the client's version or concurrently with this call, nothing is overwritten.
+     * </p>
+     *
+     * @param updateDTO the fields to update.
+     * @param id        the task id.
+     * @param ifMatch   the versions the client accepts, or {@code null} to skip the check.
+     * @return the updated task.
+     * @throws PreconditionFailedException if the task is missing or not at an accepted version.
+     */
+    @CacheEvict(cacheNames = {CacheConfig.TASK_LISTS, CacheConfig.TASK_COUNTS}, allEntries = true)
+    public TaskDTO update(TaskUpdateDTO updateDTO, Long id, ETagUtils.IfMatch ifMatch) {
+        var entity = findForWrite(id, ifMatch);
+        mapper.update(updateDTO, entity, referenceResolver.resolve(updateDTO));
+        // Flushing here bumps the version before the task is mapped, so the response carries the new one.
+        taskRepository.saveAndFlush(entity);
+        taskIndexes.forEach(index -> index.index(entity));
         return mapper.map(entity);
     }
 
+    /**
+     * Counts all tasks.
+     *
+     * @return the number of tasks.
+     */
+    @Transactional(readOnly = true)
     public Long totalCount() {
-        return taskRepository.count();
+        return entityCounters.get(Task.class);
+    }
+
+    /**
+     * Deletes a task.
+     *
+     * @param id      the task id.
+     * @param ifMatch the versions the client accepts, or {@code null} to skip the check.
+     * @throws PreconditionFailedException if the task is missing or not at an accepted version.
+     */
+    @CacheEvict(cacheNames = {CacheConfig.TASK_LISTS, CacheConfig.TASK_COUNTS}, allEntries = true)
+    public void delete(Long id, ETagUtils.IfMatch ifMatch) {
+        if (ifMatch == null) {
+            taskRepository.deleteById(id);
+        } else {
+            taskRepository.delete(findForWrite(id, ifMatch));
+        }
+        taskIndexes.forEach(index -> index.remove(id));
+    }
+
+    // With a bitmap result, SQL only ever gets one keyset chunk of its ids, growing up to MAX_FILTER_IDS.
+    private List<TaskProjectionDTO> findInIdOrder(TaskParamsDTO params, List<Long> ranking, Long afterId, int limit) {
+        var filterIds = taskSpecification.filterIds(params);
+        if (filterIds.isEmpty()) {
+            var specification = taskSpecification.build(params, ranking)
+                    .and(taskSpecification.withIdGreaterThan(afterId));
+            return limit == Integer.MAX_VALUE ? taskRepository.findProjections(specification, Sort.by("id"))
+                    : taskRepository.findProjections(specification, Sort.by("id"), 0, limit);
+        }
+
+        var specification = taskSpecification.buildWithoutMultiValueFilters(params, ranking);
+        var projections = new ArrayList<TaskProjectionDTO>();
+        var cursor = afterId == null ? 0L : afterId;
+        var chunkSize = Math.min(limit, TaskSpecification.MAX_FILTER_IDS);
+        while (projections.size() < limit) {
+            var ids = TaskFilterIndex.idsAfter(filterIds.get(), cursor, chunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            projections.addAll(taskRepository.findProjections(
+                    specification.and(taskSpecification.withIdIn(ids)), Sort.by("id")));
+            cursor = ids.getLast();
+            chunkSize = Math.min(chunkSize * 2, TaskSpecification.MAX_FILTER_IDS);
+        }
+        return projections.size() > limit ? projections.subList(0, limit) : projections;
+    }
+
+    // Under If-Match a missing task fails the precondition, even for *, rather than being reported as not found.
+    private Task findForWrite(Long id, ETagUtils.IfMatch ifMatch) {
+        var entity = taskRepository.findById(id);
+        if (entity.isEmpty()) {
+            var message = ExceptionMessage.entityNotFoundMessage(Task.class, id);
+            throw ifMatch == null ? new ResourceNotFoundException(message) : new PreconditionFailedException(message);
+        }
+        if (ifMatch != null && !ifMatch.matches(entity.get().getVersion())) {
+            throw new PreconditionFailedException("Task with id " + id + " is at version "
+                    + entity.get().getVersion() + ", which If-Match does not accept");
+        }
+        return entity.get();
     }
 
-    public void delete(Long id) {
-        taskRepository.deleteById(id);
+    private static Sort toSort(String field, String order) {
+        var property = SORTABLE_FIELDS.get(field == null ? "id" : field);
+        if (property == null) {
+            throw new BadRequestException("Unsupported sort field: " + field);
+        }
+        var direction = Sort.Direction.fromOptionalString(order == null ? "ASC" : order)
+                .orElseThrow(() -> new BadRequestException("Unsupported sort order: " + order));
+        var sort = Sort.by(direction, property);
+        return "id".equals(property) ? sort : sort.and(Sort.by("id"));
     }
 }
@@ -1,5 +1,6 @@
 package hexlet.code.service.task.label;
 
+import hexlet.code.component.counter.EntityCounters;
 import hexlet.code.dto.task.label.LabelCreateDTO;
 import hexlet.code.dto.task.label.LabelDTO;
 import hexlet.code.dto.task.label.LabelUpdateDTO;
@@ -12,22 +13,27 @@ import hexlet.code.service.BaseService;
 import hexlet.code.utils.ExceptionMessage;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
+@Transactional
 @AllArgsConstructor
-public final class LabelService implements BaseService {
+public class LabelService implements BaseService {
     private TaskRepository taskRepository;
     private LabelMapper mapper;
     private final LabelRepository labelRepository;
+    private final EntityCounters entityCounters;
 
+    @Transactional(readOnly = true)
     public List<LabelDTO> getAll() {
         return labelRepository.findAll().stream()
                 .map(mapper::map)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public LabelDTO getById(Long id) {
         var entity = labelRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -50,8 +56,9 @@ public final class LabelService implements BaseService {
         return mapper.map(entity);
     }
 
+    @Transactional(readOnly = true)
     public Long totalCount() {
-        return labelRepository.count();
+        return entityCounters.get(Label.class);
     }
 
     public void delete(Long id) {
@@ -1,5 +1,7 @@
 package hexlet.code.service.task.status;
 
+import hexlet.code.component.counter.EntityCounters;
+import hexlet.code.component.search.TaskFilterIndex;
 import hexlet.code.dto.task.status.TaskStatusCreateDTO;
 import hexlet.code.dto.task.status.TaskStatusDTO;
 import hexlet.code.dto.task.status.TaskStatusUpdateDTO;
@@ -12,25 +14,29 @@ import hexlet.code.service.BaseService;
 import hexlet.code.utils.ExceptionMessage;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
-
 @Service
+@Transactional
 @AllArgsConstructor
-public final class TaskStatusService implements BaseService {
+public class TaskStatusService implements BaseService {
 
     private final TaskStatusRepository taskStatusRepository;
     private final TaskRepository taskRepository;
     private final TaskStatusMapper mapper;
+    private final TaskFilterIndex taskFilterIndex;
+    private final EntityCounters entityCounters;
 
-
+    @Transactional(readOnly = true)
     public List<TaskStatusDTO> getAll() {
         return taskStatusRepository.findAll().stream()
                 .map(mapper::map)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public TaskStatusDTO getById(Long id) {
         var entity = taskStatusRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -48,20 +54,25 @@ public final class TaskStatusService implements BaseService {
         var entity = taskStatusRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         ExceptionMessage.entityNotFoundMessage(TaskStatus.class, id)));
+        var oldSlug = entity.getSlug();
         mapper.update(updateDTO, entity);
         taskStatusRepository.save(entity);
+        if (!oldSlug.equals(entity.getSlug())) {
+            taskFilterIndex.renameStatus(oldSlug, entity.getSlug());
+        }
         return mapper.map(entity);
     }
 
+    @Transactional(readOnly = true)
     public Long totalCount() {
-        return taskStatusRepository.count();
+        return entityCounters.get(TaskStatus.class);
     }
 
     public void delete(Long id) {
         taskStatusRepository.deleteById(id);
     }
 
-
+    @Transactional(readOnly = true)
     public TaskStatusDTO getBySlug(String slug) {
         var mbTaskStatus = taskStatusRepository.findBySlug(slug)
                 .orElseThrow(() -> new ResourceNotFoundException(
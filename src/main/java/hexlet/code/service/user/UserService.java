@@ -1,5 +1,6 @@
 package hexlet.code.service.user;
 
+import hexlet.code.component.counter.EntityCounters;
 import hexlet.code.dto.user.UserCreateDTO;
 import hexlet.code.dto.user.UserDTO;
 import hexlet.code.dto.user.UserUpdateDTO;
@@ -12,23 +13,27 @@ import hexlet.code.service.BaseService;
 import hexlet.code.utils.ExceptionMessage;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
+@Transactional
 @AllArgsConstructor
-public final class UserService implements BaseService {
+public class UserService implements BaseService {
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final UserMapper mapper;
+    private final EntityCounters entityCounters;
 
-
+    @Transactional(readOnly = true)
     public List<UserDTO> getAll() {
         return userRepository.findAll().stream()
                 .map(mapper::map)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public UserDTO getById(Long id) {
         var entity = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -51,8 +56,9 @@ public final class UserService implements BaseService {
         return mapper.map(entity);
     }
 
+    @Transactional(readOnly = true)
     public Long totalCount() {
-        return userRepository.count();
+        return entityCounters.get(User.class);
     }
 
     public void delete(Long id) {
@@ -0,0 +1,49 @@
+package hexlet.code.utils;
+
+import hexlet.code.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes the opaque cursors used by keyset pagination.
+ * <p>
+ * A cursor carries the id of the last row of a page; clients must treat it as an opaque token.
+ * </p>
+ */
+public final class CursorUtils {
+    private static final String PREFIX = "id:";
+
+    private CursorUtils() {
+    }
+
+    /**
+     * Builds a cursor pointing right after the row with the given id.
+     *
+     * @param id the id of the last row of a page.
+     * @return the opaque cursor.
+     */
+    public static String encode(Long id) {
+        var raw = PREFIX + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Extracts the id from a cursor produced by {@link #encode(Long)}.
+     *
+     * @param cursor the opaque cursor.
+     * @return the id the cursor points after.
+     * @throws BadRequestException if the cursor is malformed.
+     */
+    public static Long decode(String cursor) {
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new BadRequestException("Invalid cursor: " + cursor);
+            }
+            return Long.valueOf(raw.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package hexlet.code.utils;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Converts entity versions to and from the entity tags sent in {@code ETag} and {@code If-Match}.
+ * <p>
+ * The tag is the quoted version number. {@code If-Match} uses the strong comparison, so weak tags never
+ * match; the header may list several tags, and {@code *} matches any version of an existing entity.
+ * </p>
+ */
+public final class ETagUtils {
+    private static final String ANY = "*";
+    private static final String QUOTE = "\"";
+
+    private ETagUtils() {
+    }
+
+    /**
+     * Builds the entity tag of a version.
+     *
+     * @param version the entity version.
+     * @return the quoted entity tag.
+     */
+    public static String format(Long version) {
+        return QUOTE + version + QUOTE;
+    }
+
+    /**
+     * Parses an {@code If-Match} header.
+     *
+     * @param ifMatch the header value, or {@code null} when absent.
+     * @return the precondition, or {@code null} when the header is absent.
+     */
+    public static IfMatch parse(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        if (ANY.equals(ifMatch.trim())) {
+            return new IfMatch(null);
+        }
+        // Tags this class cannot have produced, weak ones included, are dropped: they match no version.
+        var versions = Arrays.stream(ifMatch.split(","))
+                .map(ETagUtils::toVersion)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet());
+        return new IfMatch(versions);
+    }
+
+    private static Long toVersion(String tag) {
+        var trimmed = tag.trim();
+        if (trimmed.length() < 2 || !trimmed.startsWith(QUOTE) || !trimmed.endsWith(QUOTE)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(trimmed.substring(1, trimmed.length() - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The precondition of an {@code If-Match} header.
+     *
+     * @param versions the versions named by its strong tags, or {@code null} for {@code *}.
+     */
+    public record IfMatch(Set<Long> versions) {
+
+        /**
+         * Checks the current version of an existing entity against the precondition.
+         *
+         * @param version the current entity version.
+         * @return {@code true} if the header names that version or is {@code *}.
+         */
+        public boolean matches(Long version) {
+            return versions == null || versions.contains(version);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package hexlet.code.utils;
 
+import java.util.Collection;
+
 public class ExceptionMessage {
     public static String entityNotFoundMessage(Class<?> entityClass, Long id) {
         return "%s with id %d not found".formatted(entityClass.getSimpleName(), id);
@@ -9,4 +11,9 @@ public class ExceptionMessage {
         return "%s with slug %s not found".formatted(entityClass.getSimpleName(), slug);
     }
 
+    public static String entitiesNotFoundMessage(Class<?> entityClass, Collection<Long> ids) {
+        return ids.size() == 1 ? entityNotFoundMessage(entityClass, ids.iterator().next())
+                : "%s with ids %s not found".formatted(entityClass.getSimpleName(), ids);
+    }
+
 }
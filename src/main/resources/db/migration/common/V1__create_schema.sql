@@ -0,0 +1,45 @@
+CREATE TABLE users (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name VARCHAR(255),
+    last_name  VARCHAR(255),
+    email      VARCHAR(255) NOT NULL,
+    password   VARCHAR(100) NOT NULL,
+    created_at DATE,
+    updated_at DATE,
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE task_statuses (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name       VARCHAR(255) NOT NULL,
+    slug       VARCHAR(255) NOT NULL,
+    created_at DATE,
+    CONSTRAINT uk_task_statuses_slug UNIQUE (slug)
+);
+
+CREATE TABLE labels (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name       VARCHAR(1000) NOT NULL,
+    created_at DATE,
+    CONSTRAINT uk_labels_name UNIQUE (name)
+);
+
+CREATE TABLE tasks (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name             VARCHAR(255) NOT NULL,
+    index            INTEGER,
+    description      VARCHAR(255),
+    task_statuses_id BIGINT       NOT NULL,
+    users_id         BIGINT,
+    created_at       DATE,
+    CONSTRAINT fk_tasks_task_statuses FOREIGN KEY (task_statuses_id) REFERENCES task_statuses (id),
+    CONSTRAINT fk_tasks_users FOREIGN KEY (users_id) REFERENCES users (id)
+);
+
+CREATE TABLE task_labels (
+    task_id  BIGINT NOT NULL,
+    label_id BIGINT NOT NULL,
+    PRIMARY KEY (task_id, label_id),
+    CONSTRAINT fk_task_labels_tasks FOREIGN KEY (task_id) REFERENCES tasks (id),
+    CONSTRAINT fk_task_labels_labels FOREIGN KEY (label_id) REFERENCES labels (id)
+);
@@ -0,0 +1,5 @@
+-- Serve the status/assignee/label filters and the FK checks on status, user and label deletes.
+-- task_labels (task_id, ...) is already covered by its primary key.
+CREATE INDEX idx_tasks_task_statuses_id ON tasks (task_statuses_id);
+CREATE INDEX idx_tasks_users_id ON tasks (users_id);
+CREATE INDEX idx_task_labels_label_id ON task_labels (label_id);
@@ -0,0 +1,6 @@
+-- Pooled id generators: Hibernate reserves a block of 50 ids per sequence call,
+-- so the increment must match allocationSize on the entities.
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE task_statuses_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE labels_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE tasks_seq START WITH 1 INCREMENT BY 50;
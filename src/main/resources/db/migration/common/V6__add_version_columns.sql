@@ -0,0 +1,6 @@
+-- Optimistic locking: Hibernate adds "AND version = ?" to every UPDATE/DELETE of a versioned entity
+-- and bumps the column, so a stale write affects no rows instead of overwriting a concurrent one.
+ALTER TABLE users ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE task_statuses ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE labels ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE tasks ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,6 @@
+-- Existing rows were numbered by the identity columns. Move every sequence a full block past
+-- the highest id, because the pooled optimizer hands out the block that ends at the returned value.
+SELECT setval('users_seq', (SELECT COALESCE(MAX(id), 0) FROM users) + 50);
+SELECT setval('task_statuses_seq', (SELECT COALESCE(MAX(id), 0) FROM task_statuses) + 50);
+SELECT setval('labels_seq', (SELECT COALESCE(MAX(id), 0) FROM labels) + 50);
+SELECT setval('tasks_seq', (SELECT COALESCE(MAX(id), 0) FROM tasks) + 50);
@@ -0,0 +1,93 @@
+package hexlet.code;
+
+import hexlet.code.component.protobuf.DtoProtobufCodec;
+import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.task.label.LabelDTO;
+import hexlet.code.dto.task.status.TaskStatusDTO;
+import hexlet.code.dto.user.UserDTO;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DtoProtobufCodecTest {
+    private final DtoProtobufCodec codec = new DtoProtobufCodec();
+
+    @Test
+    public void testTaskRoundTrip() throws Exception {
+        var full = new TaskDTO();
+        full.setId(1L);
+        full.setIndex(-7);
+        full.setCreatedAt(LocalDate.of(1969, 12, 31));
+        full.setAssigneeId(Long.MAX_VALUE);
+        full.setTitle("emoji 🚀, кириллица");
+        full.setContent("");
+        full.setStatus("to_review");
+        full.setTaskLabelIds(List.of(3L, 0L, -1L));
+
+        var noLabels = new TaskDTO();
+        noLabels.setTaskLabelIds(new ArrayList<>());
+
+        assertRoundTrip(full, TaskDTO.class);
+        assertRoundTrip(new TaskDTO(), TaskDTO.class);
+        assertRoundTrip(noLabels, TaskDTO.class);
+        assertListRoundTrip(List.of(full, new TaskDTO(), noLabels), TaskDTO.class);
+        assertListRoundTrip(List.of(), TaskDTO.class);
+    }
+
+    @Test
+    public void testOtherDtosRoundTrip() throws Exception {
+        var user = new UserDTO();
+        user.setId(1L);
+        user.setEmail("user@example.com");
+        user.setFirstName("Ann");
+        user.setCreatedAt(LocalDate.of(1999, 12, 31));
+
+        var label = new LabelDTO();
+        label.setId(2L);
+        label.setName("bug");
+        label.setCreatedAt(LocalDate.of(2025, 1, 1));
+
+        var status = new TaskStatusDTO();
+        status.setId(3L);
+        status.setName("Draft");
+        status.setSlug("draft");
+
+        assertRoundTrip(user, UserDTO.class);
+        assertListRoundTrip(List.of(user, new UserDTO()), UserDTO.class);
+        assertListRoundTrip(List.of(label), LabelDTO.class);
+        assertListRoundTrip(List.of(status, status), TaskStatusDTO.class);
+    }
+
+    @Test
+    public void testUnknownFieldsAreSkipped() throws Exception {
+        var label = new LabelDTO();
+        label.setId(2L);
+        label.setName("bug");
+        var output = new ByteArrayOutputStream();
+        codec.write(label, LabelDTO.class, output);
+        // field 15, varint 1; then field 16, length-delimited "x"
+        output.write(new byte[] {0x78, 0x01, (byte) 0x82, 0x01, 0x01, 'x'});
+
+        var read = codec.read(new ByteArrayInputStream(output.toByteArray()), LabelDTO.class);
+
+        assertThat(read).isEqualTo(label);
+    }
+
+    private <T> void assertRoundTrip(T dto, Class<T> type) throws Exception {
+        var output = new ByteArrayOutputStream();
+        codec.write(dto, type, output);
+        assertThat(codec.read(new ByteArrayInputStream(output.toByteArray()), type)).isEqualTo(dto);
+    }
+
+    private <T> void assertListRoundTrip(List<T> dtos, Class<T> type) throws Exception {
+        var output = new ByteArrayOutputStream();
+        codec.writeList(dtos, type, output);
+        assertThat(codec.readList(new ByteArrayInputStream(output.toByteArray()), type)).isEqualTo(dtos);
+    }
+}
@@ -0,0 +1,95 @@
+package hexlet.code;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import hexlet.code.config.JacksonConfig;
+import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.task.label.LabelDTO;
+import hexlet.code.dto.task.status.TaskStatusDTO;
+import hexlet.code.dto.user.UserDTO;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DtoSerializersTest {
+    private final ObjectMapper reflective = JacksonConfig.objectMapperBuilder(false).build();
+    private final ObjectMapper handWritten = JacksonConfig.objectMapperBuilder(true).build();
+
+    @Test
+    public void testTaskOutputIsIdentical() throws Exception {
+        var full = new TaskDTO();
+        full.setId(1L);
+        full.setIndex(-7);
+        full.setCreatedAt(LocalDate.of(2024, 2, 29));
+        full.setAssigneeId(42L);
+        full.setTitle("Quotes \" and \\ backslash, tab\t, emoji 🚀, кириллица");
+        full.setContent("line\nbreak </script>");
+        full.setStatus("to_review");
+        full.setTaskLabelIds(Arrays.asList(3L, null, Long.MAX_VALUE));
+        full.setVersion(5L);
+
+        var empty = new TaskDTO();
+        var noLabels = new TaskDTO();
+        noLabels.setTitle("");
+        noLabels.setTaskLabelIds(new ArrayList<>());
+
+        assertIdentical(full);
+        assertIdentical(empty);
+        assertIdentical(noLabels);
+        assertIdentical(List.of(full, empty, noLabels));
+    }
+
+    @Test
+    public void testOtherDtoOutputIsIdentical() throws Exception {
+        var user = new UserDTO();
+        user.setId(1L);
+        user.setEmail("user@example.com");
+        user.setFirstName("Ann");
+        user.setCreatedAt(LocalDate.of(1999, 12, 31));
+
+        var label = new LabelDTO();
+        label.setId(2L);
+        label.setName("bug");
+        label.setCreatedAt(LocalDate.of(2025, 1, 1));
+
+        var status = new TaskStatusDTO();
+        status.setId(3L);
+        status.setName("Draft");
+        status.setSlug("draft");
+
+        assertIdentical(user);
+        assertIdentical(new UserDTO());
+        assertIdentical(label);
+        assertIdentical(status);
+        assertIdentical(List.of(user, label, status));
+    }
+
+    @Test
+    public void testEveryPropertyIsWritten() throws Exception {
+        for (var type : List.of(TaskDTO.class, UserDTO.class, LabelDTO.class, TaskStatusDTO.class)) {
+            var properties = reflective.getSerializationConfig()
+                    .introspect(reflective.constructType(type))
+                    .findProperties().stream()
+                    .filter(BeanPropertyDefinition::couldSerialize)
+                    .map(BeanPropertyDefinition::getName)
+                    .toList();
+            var populated = Instancio.create(type);
+            var fieldNames = new ArrayList<String>();
+            handWritten.readTree(handWritten.writeValueAsBytes(populated)).fieldNames()
+                    .forEachRemaining(fieldNames::add);
+
+            assertThat(fieldNames).as(type.getSimpleName()).containsExactlyInAnyOrderElementsOf(properties);
+            assertIdentical(populated);
+        }
+    }
+
+    private void assertIdentical(Object value) throws Exception {
+        assertThat(handWritten.writeValueAsBytes(value)).isEqualTo(reflective.writeValueAsBytes(value));
+    }
+}
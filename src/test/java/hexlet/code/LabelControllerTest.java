@@ -8,6 +8,8 @@ import hexlet.code.model.Label;
 import hexlet.code.repository.LabelRepository;
 import hexlet.code.service.task.label.LabelService;
 import hexlet.code.util.ModelGenerator;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,6 +31,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -53,6 +56,9 @@ class LabelControllerTest {
     @Autowired
     private LabelService labelService;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
 
     @BeforeEach
     public void setup() {
@@ -73,6 +79,45 @@ class LabelControllerTest {
         assertThatJson(body).isArray().hasSize(savedLabels.size());
     }
 
+    @Test
+    public void testIndexTotalCountFollowsWrites() throws Exception {
+        var savedLabels = labelRepository.saveAll(labels);
+        var response = mockMvc.perform(get("/api/labels").with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThat(response.getHeader("X-Total-Count")).isEqualTo(String.valueOf(labelRepository.count()));
+
+        mockMvc.perform(delete("/api/labels/{id}", savedLabels.getFirst().getId()).with(jwt()))
+                .andExpect(status().isNoContent());
+        var afterDelete = mockMvc.perform(get("/api/labels").with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThat(afterDelete.getHeader("X-Total-Count")).isEqualTo(String.valueOf(labelRepository.count()));
+        assertThat(labelService.totalCount()).isEqualTo(savedLabels.size() - 1L);
+    }
+
+    @Test
+    public void testSaveAllIsBatched() {
+        var batch = IntStream.range(0, 120)
+                .mapToObj(i -> {
+                    var label = new Label();
+                    label.setName("batched label " + i);
+                    return label;
+                })
+                .toList();
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        labelRepository.saveAll(batch);
+        var statementCount = statistics.getPrepareStatementCount();
+
+        assertThat(labelRepository.count()).isEqualTo(batch.size());
+        assertThat(statementCount).isLessThan(batch.size() / 10);
+    }
+
     @Test
     public void testIndexWithoutAuth() throws Exception {
         labelRepository.saveAll(labels);
@@ -0,0 +1,71 @@
+package hexlet.code;
+
+import hexlet.code.component.datasource.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setup() {
+        var routingDataSource = new ReplicaRoutingDataSource(
+                h2("primary"), List.of(h2("replica")), Duration.ofMinutes(1));
+        routingDataSource.afterPropertiesSet();
+        var dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    public void clearUser() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testReadOnlyTransactionsGoToReplica() {
+        assertThat(databaseName(true)).isEqualTo("replica");
+        assertThat(databaseName(false)).isEqualTo("primary");
+    }
+
+    @Test
+    public void testUserReadsOwnWritesFromPrimary() {
+        login("writer");
+        databaseName(false);
+        assertThat(databaseName(true)).isEqualTo("primary");
+
+        login("reader");
+        assertThat(databaseName(true)).isEqualTo("replica");
+    }
+
+    private String databaseName(boolean readOnly) {
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM marker",
+                String.class));
+    }
+
+    private static void login(String user) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(user, null, "USER"));
+    }
+
+    private static DataSource h2(String name) {
+        var dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new JdbcTemplate(dataSource).execute("CREATE TABLE IF NOT EXISTS marker AS SELECT '" + name + "' AS name");
+        return dataSource;
+    }
+}
@@ -0,0 +1,67 @@
+package hexlet.code;
+
+import hexlet.code.dto.task.label.LabelCreateDTO;
+import hexlet.code.dto.task.label.LabelDTO;
+import hexlet.code.model.Label;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.service.task.label.LabelService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:routing_jpa_primary",
+    "datasource-routing.enabled=true",
+    "datasource-routing.replicas[0].url=" + ReplicaRoutingJpaTest.REPLICA_URL,
+    "datasource-routing.replicas[0].username=sa",
+    "datasource-routing.replicas[0].password="
+})
+class ReplicaRoutingJpaTest {
+    static final String REPLICA_URL = "jdbc:h2:mem:routing_jpa_replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private LabelService labelService;
+    @Autowired
+    private LabelRepository labelRepository;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    public static void migrateReplica() {
+        // The replica gets the schema but none of the rows written to the primary.
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration/common")
+                .load()
+                .migrate();
+    }
+
+    @Test
+    public void testReadOnlyServiceMethodReadsFromReplica() {
+        assertThat(transactionManager).isInstanceOf(JpaTransactionManager.class);
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+
+        var createDTO = new LabelCreateDTO();
+        createDTO.setName("routed label");
+        labelService.create(createDTO);
+
+        // LabelService.getAll runs in a read-only transaction, so it is served by the empty replica.
+        assertThat(labelService.getAll()).extracting(LabelDTO::getName).doesNotContain("routed label");
+
+        var primaryNames = new TransactionTemplate(transactionManager).execute(status ->
+                labelRepository.findAll().stream().map(Label::getName).toList());
+        assertThat(primaryNames).contains("routed label");
+    }
+}
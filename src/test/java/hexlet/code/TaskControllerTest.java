@@ -1,8 +1,13 @@
 package hexlet.code;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.protobuf.DtoProtobufCodec;
+import hexlet.code.component.search.TaskSearchIndex;
 import hexlet.code.component.specification.TaskSpecification;
+import hexlet.code.config.JacksonConfig;
 import hexlet.code.dto.task.TaskCreateDTO;
+import hexlet.code.dto.task.TaskDTO;
 import hexlet.code.dto.task.TaskParamsDTO;
 import hexlet.code.dto.task.TaskUpdateDTO;
 import hexlet.code.exception.ResourceNotFoundException;
@@ -18,6 +23,9 @@ import hexlet.code.service.task.TaskService;
 import hexlet.code.service.task.label.LabelService;
 import hexlet.code.service.task.status.TaskStatusService;
 import hexlet.code.service.user.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openapitools.jackson.nullable.JsonNullable;
@@ -29,7 +37,12 @@ import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
@@ -38,6 +51,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -73,7 +87,13 @@ class TaskControllerTest {
     @Autowired
     private TaskSpecification specification;
     @Autowired
+    private TaskSearchIndex searchIndex;
+    @Autowired
     private PasswordEncoder passwordEncoder;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
 
 
     @BeforeEach
@@ -103,6 +123,24 @@ class TaskControllerTest {
 
     }
 
+    @Test
+    public void testConnectionHoldTimeIsRecordedPerHandler() throws Exception {
+        saveTasksWithDependencies();
+        var id = tasks.get(0).getId();
+
+        mockMvc.perform(get("/api/tasks/" + id).with(jwt()))
+                .andExpect(status().isOk());
+
+        var held = meterRegistry.find("jdbc.connections.held")
+                .tag("handler", "TaskController.show")
+                .timer();
+        assertThat(held).isNotNull();
+        assertThat(held.count()).isPositive();
+        assertThat(meterRegistry.find("jdbc.connections.acquire")
+                .tag("handler", "TaskController.show")
+                .timer()).isNotNull();
+    }
+
     @Test
     public void testIndexWithoutFiltersWithAuthorization() throws Exception {
         saveTasksWithDependencies();
@@ -265,6 +303,158 @@ class TaskControllerTest {
         assertThat(realTitle).contains(cutTitle);
     }
 
+    @Test
+    public void testIndexWithContentFilterWithAuth() throws Exception {
+        saveTasksWithDependencies();
+
+        var response = mockMvc.perform(get("/api/tasks")
+                        .param("contentCont", "TION TASK")
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThatJson(response.getContentAsString()).isArray().hasSize(1);
+        assertThatJson(response.getContentAsString()).node("[0].content")
+                .isEqualTo(tasks.getFirst().getDescription());
+
+        var combined = mockMvc.perform(get("/api/tasks")
+                        .param("contentCont", "description")
+                        .param("titleCont", "task2")
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThat(combined.getContentAsString()).isEqualTo("[]");
+    }
+
+    @Test
+    public void testIndexWithMultiValueFiltersWithAuth() throws Exception {
+        var draft = taskStatusRepository.save(buildTestTaskStatus("multi_draft"));
+        var review = taskStatusRepository.save(buildTestTaskStatus("multi_review"));
+        var bug = labelRepository.save(buildTestLabel("multi bug"));
+        var urgent = labelRepository.save(buildTestLabel("multi urgent"));
+        var assignee = userRepository.save(buildTestAssignee("multi@filter.io", "password"));
+
+        var bugTask = new TaskCreateDTO();
+        bugTask.setTitle("bug task");
+        bugTask.setStatus(draft.getSlug());
+        bugTask.setTaskLabelIds(Set.of(bug.getId()));
+        var urgentBugTask = new TaskCreateDTO();
+        urgentBugTask.setTitle("urgent bug task");
+        urgentBugTask.setStatus(review.getSlug());
+        urgentBugTask.setAssigneeId(assignee.getId());
+        urgentBugTask.setTaskLabelIds(Set.of(bug.getId(), urgent.getId()));
+        var bugTaskId = taskService.create(bugTask).getId();
+        var urgentBugTaskId = taskService.create(urgentBugTask).getId();
+
+        var anyLabel = mockMvc.perform(get("/api/tasks")
+                        .param("labelIdIn", bug.getId() + "," + urgent.getId())
+                        .param("statusIn", draft.getSlug(), review.getSlug())
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThatJson(anyLabel.getContentAsString()).isArray().hasSize(2);
+        assertThat(anyLabel.getHeader("X-Total-Count")).isEqualTo("2");
+
+        var allLabels = mockMvc.perform(get("/api/tasks")
+                        .param("labelIdAll", bug.getId() + "," + urgent.getId())
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThatJson(allLabels.getContentAsString()).isArray().hasSize(1);
+        assertThatJson(allLabels.getContentAsString()).node("[0].id").isEqualTo(urgentBugTaskId);
+
+        var byStatus = mockMvc.perform(get("/api/tasks")
+                        .param("statusIn", draft.getSlug())
+                        .param("labelIdIn", String.valueOf(bug.getId()))
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThatJson(byStatus.getContentAsString()).isArray().hasSize(1);
+        assertThatJson(byStatus.getContentAsString()).node("[0].id").isEqualTo(bugTaskId);
+
+        var byAssignee = mockMvc.perform(get("/api/tasks")
+                        .param("assigneeIdIn", String.valueOf(assignee.getId()))
+                        .param("statusIn", draft.getSlug())
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThat(byAssignee.getContentAsString()).isEqualTo("[]");
+    }
+
+    @Test
+    public void testCursorPagingWithMultiValueFilters() {
+        var status = taskStatusRepository.save(buildTestTaskStatus("paged_multi"));
+        var matchingIds = new ArrayList<Long>();
+        for (var i = 0; i < 7; i++) {
+            var createDTO = new TaskCreateDTO();
+            // Every other task is dropped by the title filter, so the id chunks have to grow to fill a page.
+            createDTO.setTitle((i % 2 == 0 ? "paged" : "skipped") + " task " + i);
+            createDTO.setStatus(status.getSlug());
+            var id = taskService.create(createDTO).getId();
+            if (i % 2 == 0) {
+                matchingIds.add(id);
+            }
+        }
+        var params = new TaskParamsDTO();
+        params.setStatusIn(Set.of(status.getSlug()));
+        params.setTitleCont("paged");
+
+        var pagedIds = new ArrayList<Long>();
+        String cursor = null;
+        do {
+            var page = taskService.getPage(params, cursor, 1);
+            page.getContent().forEach(task -> pagedIds.add(task.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(pagedIds).isEqualTo(matchingIds);
+        assertThat(taskService.getAll(params)).extracting(TaskDTO::getId).isEqualTo(matchingIds);
+    }
+
+    @Test
+    public void testFailedStatusRenameKeepsFilterIndex() throws Exception {
+        var draft = taskStatusRepository.save(buildTestTaskStatus("kept_draft"));
+        var review = taskStatusRepository.save(buildTestTaskStatus("kept_review"));
+        var draftTask = new TaskCreateDTO();
+        draftTask.setTitle("draft task");
+        draftTask.setStatus(draft.getSlug());
+        var reviewTask = new TaskCreateDTO();
+        reviewTask.setTitle("review task");
+        reviewTask.setStatus(review.getSlug());
+        var draftTaskId = taskService.create(draftTask).getId();
+        var reviewTaskId = taskService.create(reviewTask).getId();
+
+        // The duplicate slug is only rejected when the transaction commits.
+        mockMvc.perform(put("/api/task_statuses/{id}", draft.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(Map.of("slug", review.getSlug())))
+                        .with(jwt()))
+                .andExpect(status().isConflict());
+
+        var byReview = mockMvc.perform(get("/api/tasks")
+                        .param("statusIn", review.getSlug())
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThatJson(byReview.getContentAsString()).isArray().hasSize(1);
+        assertThatJson(byReview.getContentAsString()).node("[0].id").isEqualTo(reviewTaskId);
+
+        var byDraft = mockMvc.perform(get("/api/tasks")
+                        .param("statusIn", draft.getSlug())
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThatJson(byDraft.getContentAsString()).isArray().hasSize(1);
+        assertThatJson(byDraft.getContentAsString()).node("[0].id").isEqualTo(draftTaskId);
+    }
+
     @Test
     public void testIndexWithLabelFilterWithAuth() throws Exception {
         saveTasksWithDependencies();
@@ -309,6 +499,282 @@ class TaskControllerTest {
         assertThatJson(body2).node("[0].taskLabelIds").isEqualTo(Set.of(label.getId()));
     }
 
+    @Test
+    public void testIndexWithCursorPaginationWithAuth() throws Exception {
+        saveTasksWithDependencies();
+
+        var firstPage = mockMvc.perform(get("/api/tasks")
+                        .param("limit", "1")
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThatJson(firstPage.getContentAsString()).isArray().hasSize(1);
+        assertThatJson(firstPage.getContentAsString()).node("[0].id").isEqualTo(tasks.getFirst().getId());
+
+        var nextCursor = firstPage.getHeader("X-Next-Cursor");
+        assertThat(nextCursor).isNotNull();
+
+        var secondPage = mockMvc.perform(get("/api/tasks")
+                        .param("limit", "1")
+                        .param("after", nextCursor)
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThatJson(secondPage.getContentAsString()).isArray().hasSize(1);
+        assertThatJson(secondPage.getContentAsString()).node("[0].id").isEqualTo(tasks.getLast().getId());
+        assertThat(secondPage.getHeader("X-Next-Cursor")).isNull();
+
+        mockMvc.perform(get("/api/tasks")
+                        .param("after", "not a cursor")
+                        .with(jwt()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testIndexWithRangeSortAndFilteredCountWithAuth() throws Exception {
+        saveTasksWithDependencies();
+
+        var response = mockMvc.perform(get("/api/tasks")
+                        .param("_start", "0")
+                        .param("_end", "1")
+                        .param("_sort", "title")
+                        .param("_order", "DESC")
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThatJson(response.getContentAsString()).isArray().hasSize(1);
+        assertThatJson(response.getContentAsString()).node("[0].title").isEqualTo(tasks.getLast().getName());
+        assertThat(response.getHeader("X-Total-Count")).isEqualTo(String.valueOf(tasks.size()));
+
+        var filtered = mockMvc.perform(get("/api/tasks")
+                        .param("titleCont", tasks.getFirst().getName())
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThat(filtered.getHeader("X-Total-Count")).isEqualTo("1");
+
+        var withoutCount = mockMvc.perform(get("/api/tasks")
+                        .param("_start", "0")
+                        .param("_end", "10")
+                        .param("_count", "false")
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThat(withoutCount.getHeader("X-Total-Count")).isNull();
+
+        mockMvc.perform(get("/api/tasks")
+                        .param("_sort", "password")
+                        .with(jwt()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testIndexQueryCountDoesNotDependOnTaskCount() {
+        saveTasksWithDependencies();
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        statistics.clear();
+        taskService.getAll(new TaskParamsDTO());
+        taskService.getRange(new TaskParamsDTO(), 0, 100, "title", "ASC");
+        var queriesForFewTasks = statistics.getPrepareStatementCount();
+
+        for (var i = 0; i < 10; i++) {
+            var task = new Task();
+            task.setName("task with associations " + i);
+            task.setTaskStatus(taskStatusRepository.save(buildTestTaskStatus("n_plus_one_" + i)));
+            task.setAssignee(userRepository.save(buildTestAssignee("n" + i + "@plus.one", "password")));
+            task.addLabel(labelRepository.save(buildTestLabel("first label " + i)));
+            task.addLabel(labelRepository.save(buildTestLabel("second label " + i)));
+            taskRepository.save(task);
+        }
+
+        statistics.clear();
+        var listDTO = taskService.getAll(new TaskParamsDTO());
+        var rangeDTO = taskService.getRange(new TaskParamsDTO(), 0, 100, "title", "ASC");
+        var queriesForManyTasks = statistics.getPrepareStatementCount();
+
+        assertThat(listDTO).hasSize(tasks.size() + 10);
+        assertThat(rangeDTO).hasSize(tasks.size() + 10);
+        assertThat(rangeDTO.getFirst().getTaskLabelIds()).hasSize(2);
+        assertThat(queriesForManyTasks).isEqualTo(queriesForFewTasks);
+
+        // The detail path loads the task with its fetch plan: status, assignee and labels in one statement.
+        statistics.clear();
+        var task = taskService.getById(rangeDTO.getFirst().getId());
+        assertThat(task.getTaskLabelIds()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testSaveAllOfManyTasksIsBatched() {
+        var status = taskStatusRepository.save(buildTestTaskStatus("batched_insert"));
+        var batch = new ArrayList<Task>();
+        for (var i = 0; i < 500; i++) {
+            var task = new Task();
+            task.setName("batched task " + i);
+            task.setTaskStatus(status);
+            batch.add(task);
+        }
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        taskRepository.saveAll(batch);
+
+        // With batches of 50 and a pooled sequence allocating 50 ids per call, 500 rows take ten insert
+        // statements and at most eleven sequence calls, instead of one statement per row.
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(batch.size());
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(21);
+        assertThat(taskRepository.count()).isEqualTo(batch.size());
+    }
+
+    @Test
+    public void testRepeatedListingIsServedFromCache() {
+        saveTasksWithDependencies();
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        var params = new TaskParamsDTO();
+        params.setStatus(tasks.getFirst().getTaskStatus().getSlug());
+
+        var first = taskService.getPage(params, null, null).getContent();
+        statistics.clear();
+        var repeated = taskService.getPage(params, null, null).getContent();
+        var repeatedCount = taskService.count(params);
+        var queriesForRepeated = statistics.getPrepareStatementCount();
+        assertThat(repeated).isEqualTo(first);
+        assertThat(repeatedCount).isEqualTo(1L);
+
+        var createDTO = new TaskCreateDTO();
+        createDTO.setTitle("cached listing");
+        createDTO.setStatus(tasks.getFirst().getTaskStatus().getSlug());
+        taskService.create(createDTO);
+        var afterCreate = taskService.getPage(params, null, null).getContent();
+
+        taskService.getPage(new TaskParamsDTO(), null, null).getContent();
+        var status = tasks.getFirst().getTaskStatus();
+        status.setSlug("renamed_status");
+        taskStatusRepository.save(status);
+        var afterRename = taskService.getPage(new TaskParamsDTO(), null, null).getContent();
+
+        assertThat(queriesForRepeated).isZero();
+        assertThat(afterCreate).hasSize(first.size() + 1);
+        assertThat(afterRename).filteredOn(task -> task.getStatus().equals("renamed_status")).hasSize(2);
+    }
+
+    @Test
+    public void testStreamAsNdjsonWithAuth() throws Exception {
+        saveTasksWithDependencies();
+
+        var response = mockMvc.perform(get("/api/tasks")
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        assertThat(response.getContentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+        var lines = response.getContentAsString().lines().toList();
+        assertThat(lines).hasSize(tasks.size());
+        assertThatJson(lines.getFirst()).and(
+                v -> v.node("id").isEqualTo(tasks.getFirst().getId()),
+                v -> v.node("title").isEqualTo(tasks.getFirst().getName()),
+                v -> v.node("status").isEqualTo(tasks.getFirst().getTaskStatus().getSlug())
+        );
+        assertThatJson(lines.getLast()).node("id").isEqualTo(tasks.getLast().getId());
+    }
+
+    @Test
+    public void testIndexNegotiatesBinaryFormatsWithAuth() throws Exception {
+        saveTasksWithDependencies();
+        var json = om.readValue(index(MediaType.APPLICATION_JSON_VALUE), new TypeReference<List<TaskDTO>>() { });
+        var smile = JacksonConfig.objectMapperBuilder(true).smile().build();
+        var cbor = JacksonConfig.objectMapperBuilder(true).cbor().build();
+
+        assertThat(json).hasSize(tasks.size());
+        assertThat(smile.readValue(index("application/x-jackson-smile"), new TypeReference<List<TaskDTO>>() { }))
+                .isEqualTo(json);
+        assertThat(cbor.readValue(index("application/cbor"), new TypeReference<List<TaskDTO>>() { }))
+                .isEqualTo(json);
+        assertThat(new DtoProtobufCodec().readList(
+                new ByteArrayInputStream(index("application/x-protobuf")), TaskDTO.class))
+                .isEqualTo(json);
+    }
+
+    @Test
+    public void testIndexWithSearchWithAuth() throws Exception {
+        saveTasksWithDependencies();
+        var status = tasks.getFirst().getTaskStatus().getSlug();
+        var weakMatch = new TaskCreateDTO();
+        weakMatch.setTitle("Release checklist");
+        weakMatch.setContent("Prepare the deployment of the reporting service");
+        weakMatch.setStatus(status);
+        var strongMatch = new TaskCreateDTO();
+        strongMatch.setTitle("Deployment pipeline");
+        strongMatch.setContent("Automate deployment");
+        strongMatch.setStatus(status);
+        var noMatch = new TaskCreateDTO();
+        noMatch.setTitle("Write docs");
+        noMatch.setStatus(status);
+        var weakId = taskService.create(weakMatch).getId();
+        var strongId = taskService.create(strongMatch).getId();
+        taskService.create(noMatch);
+
+        var response = mockMvc.perform(get("/api/tasks")
+                        .param("search", "deploy")
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThatJson(response.getContentAsString()).isArray().hasSize(2);
+        assertThatJson(response.getContentAsString()).node("[0].id").isEqualTo(strongId);
+        assertThatJson(response.getContentAsString()).node("[1].id").isEqualTo(weakId);
+
+        var narrowed = mockMvc.perform(get("/api/tasks")
+                        .param("search", "deploy REPORT")
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThatJson(narrowed.getContentAsString()).isArray().hasSize(1);
+        assertThatJson(narrowed.getContentAsString()).node("[0].id").isEqualTo(weakId);
+
+        taskService.delete(strongId, null);
+        var afterDelete = mockMvc.perform(get("/api/tasks")
+                        .param("search", "pipeline")
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThatJson(afterDelete.getContentAsString()).isArray().isEmpty();
+    }
+
+    @Test
+    public void testIndexWithSearchOverResultCap() throws Exception {
+        // Documents with ids no task uses, indexed outside a transaction so they are visible at once.
+        var ids = new ArrayList<Long>();
+        for (long id = 1; id <= TaskSpecification.MAX_SEARCH_RESULTS + 1; id++) {
+            var task = new Task();
+            task.setId(Long.MAX_VALUE - id);
+            task.setName("Overflowing search " + id);
+            searchIndex.index(task);
+            ids.add(task.getId());
+        }
+        try {
+            mockMvc.perform(get("/api/tasks")
+                            .param("search", "overflowing")
+                            .with(jwt()))
+                    .andExpect(status().isBadRequest());
+        } finally {
+            ids.forEach(searchIndex::remove);
+        }
+    }
+
     @Test
     public void testIndexWithoutAuthorization() throws Exception {
         mockMvc.perform(get("/api/tasks"))
@@ -405,6 +871,297 @@ class TaskControllerTest {
         );
     }
 
+    @Test
+    public void testCreateResolvesEachReferenceTypeOnce() throws Exception {
+        saveTasksWithDependencies();
+        var model = tasks.getFirst();
+        var labelIds = new ArrayList<Long>();
+        for (var i = 0; i < 3; i++) {
+            labelIds.add(labelRepository.save(buildTestLabel("create label " + i)).getId());
+        }
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        var oneLabel = new TaskCreateDTO();
+        oneLabel.setTitle("one label");
+        oneLabel.setStatus(model.getTaskStatus().getSlug());
+        oneLabel.setAssigneeId(model.getAssignee().getId());
+        oneLabel.setTaskLabelIds(Set.of(labelIds.getFirst()));
+        taskService.create(oneLabel);
+        statistics.clear();
+        taskService.create(oneLabel);
+        var statementsForOneLabel = statistics.getPrepareStatementCount();
+
+        var threeLabels = new TaskCreateDTO();
+        threeLabels.setTitle("three labels");
+        threeLabels.setStatus(model.getTaskStatus().getSlug());
+        threeLabels.setAssigneeId(model.getAssignee().getId());
+        threeLabels.setTaskLabelIds(Set.copyOf(labelIds));
+        statistics.clear();
+        var created = taskService.create(threeLabels);
+
+        assertThat(created.getTaskLabelIds()).containsExactlyInAnyOrderElementsOf(labelIds);
+        assertThat(created.getAssigneeId()).isEqualTo(model.getAssignee().getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsForOneLabel);
+
+        var unknownStatus = new TaskCreateDTO();
+        unknownStatus.setTitle("unknown status");
+        unknownStatus.setStatus("no_such_status");
+        mockMvc.perform(post("/api/tasks")
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(unknownStatus)))
+                .andExpect(status().isNotFound());
+
+        var nullAndUnknownLabel = Map.of(
+                "title", "null label",
+                "status", model.getTaskStatus().getSlug(),
+                "taskLabelIds", Arrays.asList(null, 999_999L));
+        mockMvc.perform(post("/api/tasks")
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(nullAndUnknownLabel)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testCreateBatchReportsPerItemErrors() throws Exception {
+        saveTasksWithDependencies();
+        var model = tasks.getFirst();
+        var label = labelRepository.save(buildTestLabel("batch label"));
+
+        var valid = new TaskCreateDTO();
+        valid.setTitle("batch task");
+        valid.setStatus(model.getTaskStatus().getSlug());
+        valid.setAssigneeId(model.getAssignee().getId());
+        valid.setTaskLabelIds(Set.of(label.getId()));
+        var blankTitle = new TaskCreateDTO();
+        blankTitle.setTitle(" ");
+        blankTitle.setStatus(model.getTaskStatus().getSlug());
+        var unknownStatus = new TaskCreateDTO();
+        unknownStatus.setTitle("unknown status");
+        unknownStatus.setStatus("no_such_status");
+        var unknownLabel = new TaskCreateDTO();
+        unknownLabel.setTitle("unknown label");
+        unknownLabel.setStatus(model.getTaskStatus().getSlug());
+        unknownLabel.setTaskLabelIds(Set.of(9999L));
+        var batch = List.of(valid, blankTitle, unknownStatus, unknownLabel);
+
+        var response = mockMvc.perform(post("/api/tasks/batch")
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        var body = response.getContentAsString();
+        assertThatJson(body).and(
+                v -> v.node("created").isEqualTo(1),
+                v -> v.node("failed").isEqualTo(3),
+                v -> v.node("items[0].task.title").isEqualTo(valid.getTitle()),
+                v -> v.node("items[0].task.status").isEqualTo(valid.getStatus()),
+                v -> v.node("items[0].task.assignee_id").isEqualTo(valid.getAssigneeId()),
+                v -> v.node("items[0].task.taskLabelIds").isArray().containsExactly(label.getId()),
+                v -> v.node("items[0].error").isAbsent(),
+                v -> v.node("items[1].error").asString().startsWith("title:"),
+                v -> v.node("items[2].error").isEqualTo("TaskStatus with slug no_such_status not found"),
+                v -> v.node("items[3].error").isEqualTo("Label with id 9999 not found")
+        );
+        var id = om.readTree(body).get("items").get(0).get("task").get("id").asLong();
+        assertThat(taskRepository.findById(id)).isPresent();
+        assertThat(taskRepository.count()).isEqualTo(tasks.size() + 1);
+    }
+
+    @Test
+    public void testCreateBatchLooksUpUnknownStatusesInOneQuery() throws Exception {
+        saveTasksWithDependencies();
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        // The first batch loads the status registry.
+        createBatchWithUnknownStatuses(1);
+
+        statistics.clear();
+        createBatchWithUnknownStatuses(1);
+        var statementsForOneSlug = statistics.getPrepareStatementCount();
+        statistics.clear();
+        createBatchWithUnknownStatuses(5);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsForOneSlug);
+    }
+
+    @Test
+    public void testUpdateBatchByFilterAndByIds() throws Exception {
+        var draft = taskStatusRepository.save(buildTestTaskStatus("bulk_draft"));
+        var done = taskStatusRepository.save(buildTestTaskStatus("bulk_done"));
+        var label = labelRepository.save(buildTestLabel("bulk label"));
+        var assignee = userRepository.save(buildTestAssignee("bulk@update.io", "password"));
+
+        var ids = new ArrayList<Long>();
+        for (var i = 0; i < 3; i++) {
+            var createDTO = new TaskCreateDTO();
+            createDTO.setTitle("bulk task " + i);
+            createDTO.setStatus(i < 2 ? draft.getSlug() : done.getSlug());
+            ids.add(taskService.create(createDTO).getId());
+        }
+
+        var byFilter = Map.of(
+                "filter", Map.of("statusIn", List.of(draft.getSlug())),
+                "status", done.getSlug(),
+                "assignee_id", assignee.getId(),
+                "addLabelIds", List.of(label.getId()));
+        var response = mockMvc.perform(patch("/api/tasks/batch")
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(byFilter)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThatJson(response.getContentAsString()).node("affected").isEqualTo(2);
+
+        for (var id : ids.subList(0, 2)) {
+            var task = taskRepository.findById(id).orElseThrow();
+            assertThat(task.getTaskStatus().getSlug()).isEqualTo(done.getSlug());
+            assertThat(task.getAssignee().getId()).isEqualTo(assignee.getId());
+            assertThat(task.getLabels()).extracting(Label::getId).containsExactly(label.getId());
+        }
+        assertThat(taskRepository.findById(ids.get(2)).orElseThrow().getAssignee()).isNull();
+
+        var moved = mockMvc.perform(get("/api/tasks")
+                        .param("statusIn", done.getSlug())
+                        .param("labelIdIn", String.valueOf(label.getId()))
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThatJson(moved.getContentAsString()).isArray().hasSize(2);
+
+        var byIds = new HashMap<String, Object>();
+        byIds.put("ids", ids);
+        byIds.put("assignee_id", null);
+        byIds.put("removeLabelIds", List.of(label.getId()));
+        var unassigned = mockMvc.perform(patch("/api/tasks/batch")
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(byIds)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThatJson(unassigned.getContentAsString()).node("affected").isEqualTo(3);
+
+        for (var id : ids) {
+            var task = taskRepository.findById(id).orElseThrow();
+            assertThat(task.getAssignee()).isNull();
+            assertThat(task.getLabels()).isEmpty();
+        }
+
+        mockMvc.perform(patch("/api/tasks/batch")
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(Map.of("ids", ids, "status", "no_such_status"))))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(patch("/api/tasks/batch")
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(Map.of("ids", ids))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testDeleteBatchByFilterAndByIds() throws Exception {
+        saveTasksWithDependencies();
+        var label = labelRepository.save(buildTestLabel("stale"));
+        var labelled = tasks.getFirst();
+        labelled.addLabel(label);
+        taskRepository.save(labelled);
+        var kept = tasks.getLast();
+
+        var byFilter = Map.of("filter", Map.of("labelId", label.getId()));
+        var response = mockMvc.perform(post("/api/tasks/batch/delete")
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(byFilter)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThatJson(response.getContentAsString()).node("affected").isEqualTo(1);
+        assertThat(taskRepository.findById(labelled.getId())).isEmpty();
+        assertThat(labelRepository.findById(label.getId())).isPresent();
+        assertThat(taskService.totalCount()).isEqualTo(1L);
+
+        var byIds = Map.of("ids", List.of(kept.getId(), 9999L));
+        var second = mockMvc.perform(post("/api/tasks/batch/delete")
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(byIds)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThatJson(second.getContentAsString()).node("affected").isEqualTo(1);
+        assertThat(taskRepository.count()).isZero();
+
+        mockMvc.perform(post("/api/tasks/batch/delete")
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testUpdateResolvesLabelsInOneQuery() throws Exception {
+        saveTasksWithDependencies();
+        var labelIds = new ArrayList<Long>();
+        for (var i = 0; i < 3; i++) {
+            labelIds.add(labelRepository.save(buildTestLabel("resolved label " + i)).getId());
+        }
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        var oneLabel = new TaskUpdateDTO();
+        oneLabel.setTaskLabelIds(JsonNullable.of(Set.of(labelIds.getFirst())));
+        statistics.clear();
+        taskService.update(oneLabel, tasks.get(0).getId(), null);
+        var statementsForOneLabel = statistics.getPrepareStatementCount();
+
+        var threeLabels = new TaskUpdateDTO();
+        threeLabels.setTaskLabelIds(JsonNullable.of(Set.copyOf(labelIds)));
+        statistics.clear();
+        var updated = taskService.update(threeLabels, tasks.get(1).getId(), null);
+
+        assertThat(updated.getTaskLabelIds()).containsExactlyInAnyOrderElementsOf(labelIds);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsForOneLabel);
+
+        var missingLabels = new TaskUpdateDTO();
+        missingLabels.setTaskLabelIds(JsonNullable.of(Set.of(labelIds.getFirst(), 9998L, 9999L)));
+        mockMvc.perform(put("/api/tasks/{id}", tasks.get(0).getId())
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(missingLabels)))
+                .andExpect(status().isNotFound())
+                .andExpect(result -> assertThat(result.getResponse().getContentAsString())
+                        .isEqualTo("Label with ids [9998, 9999] not found"));
+    }
+
+    @Test
+    public void testUpdateTakesAssigneeAsReference() throws Exception {
+        saveTasksWithDependencies();
+        var assignee = userRepository.save(buildTestAssignee("reference@assignee.io", "password"));
+
+        var assign = new TaskUpdateDTO();
+        assign.setAssigneeId(JsonNullable.of(assignee.getId()));
+        var updated = taskService.update(assign, tasks.get(1).getId(), null);
+        assertThat(updated.getAssigneeId()).isEqualTo(assignee.getId());
+
+        var missingAssignee = new TaskUpdateDTO();
+        missingAssignee.setAssigneeId(JsonNullable.of(9999L));
+        mockMvc.perform(put("/api/tasks/{id}", tasks.get(1).getId())
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(missingAssignee)))
+                .andExpect(status().isNotFound());
+        assertThat(taskService.getById(tasks.get(1).getId()).getAssigneeId()).isEqualTo(assignee.getId());
+    }
+
     @Test
     public void testUpdateUsingSomeFieldsInUpdateDTO() throws Exception {
         saveTasksWithDependencies();
@@ -459,6 +1216,62 @@ class TaskControllerTest {
                 v -> v.node("createdAt").isNotNull());
     }
 
+    @Test
+    public void testUpdateAndDeleteWithIfMatch() throws Exception {
+        saveTasksWithDependencies();
+        var id = tasks.getFirst().getId();
+
+        var etag = mockMvc.perform(get("/api/tasks/{id}", id).with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+        assertThat(etag).isNotNull();
+
+        var updateDTO = new TaskUpdateDTO();
+        updateDTO.setTitle(JsonNullable.of("first writer"));
+        var newEtag = mockMvc.perform(put("/api/tasks/{id}", id)
+                        .with(jwt())
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(updateDTO)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+        assertThat(newEtag).isNotNull().isNotEqualTo(etag);
+
+        updateDTO.setTitle(JsonNullable.of("second writer"));
+        mockMvc.perform(put("/api/tasks/{id}", id)
+                        .with(jwt())
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(updateDTO)))
+                .andExpect(status().isPreconditionFailed());
+        assertThat(taskRepository.findById(id).orElseThrow().getName()).isEqualTo("first writer");
+
+        mockMvc.perform(delete("/api/tasks/{id}", id).with(jwt()).header("If-Match", etag))
+                .andExpect(status().isPreconditionFailed());
+        assertThat(taskRepository.findById(id)).isPresent();
+
+        // Weak tags never match under the strong comparison, and a list matches if any of its tags does.
+        mockMvc.perform(delete("/api/tasks/{id}", id).with(jwt()).header("If-Match", "W/" + newEtag))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/tasks/{id}", id).with(jwt()).header("If-Match", etag + ", " + newEtag))
+                .andExpect(status().isNoContent());
+        assertThat(taskRepository.findById(id)).isEmpty();
+
+        // "*" only matches an existing task.
+        mockMvc.perform(delete("/api/tasks/{id}", id).with(jwt()).header("If-Match", "*"))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/api/tasks/{id}", id)
+                        .with(jwt())
+                        .header("If-Match", "*")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(updateDTO)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
     @Test
     public void testUpdateWithoutAuth() throws Exception {
         saveTasksWithDependencies();
@@ -584,6 +1397,21 @@ class TaskControllerTest {
 
 
 
+    private void createBatchWithUnknownStatuses(int count) throws Exception {
+        var batch = new ArrayList<TaskCreateDTO>();
+        for (var i = 0; i < count; i++) {
+            var createDTO = new TaskCreateDTO();
+            createDTO.setTitle("unknown status " + i);
+            createDTO.setStatus("no_such_status_" + i);
+            batch.add(createDTO);
+        }
+        mockMvc.perform(post("/api/tasks/batch")
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(batch)))
+                .andExpect(status().isOk());
+    }
+
     private Task buildFullFilledTestTaskModel() {
         var task1 = new Task();
         task1.setIndex(12);
@@ -637,4 +1465,15 @@ class TaskControllerTest {
             taskRepository.save(task);
         }
     }
+
+    private byte[] index(String mediaType) throws Exception {
+        var response = mockMvc.perform(get("/api/tasks")
+                        .accept(mediaType)
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThat(response.getContentType()).isEqualTo(mediaType);
+        return response.getContentAsByteArray();
+    }
 }
@@ -1,6 +1,7 @@
 package hexlet.code;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.cache.TaskStatusRegistry;
 import hexlet.code.dto.task.status.TaskStatusCreateDTO;
 import hexlet.code.dto.task.status.TaskStatusUpdateDTO;
 import hexlet.code.exception.ResourceNotFoundException;
@@ -9,6 +10,8 @@ import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.service.task.status.TaskStatusService;
 import hexlet.code.util.ModelGenerator;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -53,6 +56,12 @@ class TaskStatusControllerTest {
     @Autowired
     private TaskStatusService service;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskStatusRegistry taskStatusRegistry;
+
 
     @BeforeEach
     public void setup() {
@@ -84,6 +93,66 @@ class TaskStatusControllerTest {
         assertThat(exception1.getMessage()).isEqualTo("TaskStatus with slug " + slug + " not found");
     }
 
+    @Test
+    public void testFindBySlugIsServedFromSecondLevelCache() {
+        var model = taskStatusRepository.save(testModels.getFirst());
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        taskStatusRepository.findBySlug(model.getSlug());
+        var found = taskStatusRepository.findBySlug(model.getSlug());
+
+        assertThat(found).isPresent();
+        assertThat(found.get().getName()).isEqualTo(model.getName());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    public void testRegistryFollowsStatusWrites() {
+        var existing = taskStatusRepository.saveAll(testModels).getFirst();
+        // Load the map before any write, so that the assertions below depend on its invalidation.
+        assertThat(taskStatusRegistry.findId(existing.getSlug())).isEqualTo(existing.getId());
+
+        var createDTO = new TaskStatusCreateDTO();
+        createDTO.setName("Registered");
+        createDTO.setSlug("registered");
+        var id = service.create(createDTO).getId();
+
+        assertThat(taskStatusRegistry.findId("registered")).isEqualTo(id);
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        assertThat(taskStatusRegistry.find("registered").getName()).isEqualTo("Registered");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        var updateDTO = new TaskStatusUpdateDTO();
+        updateDTO.setSlug(JsonNullable.of("renamed"));
+        service.update(updateDTO, id);
+        assertThat(taskStatusRegistry.find("registered")).isNull();
+        assertThat(taskStatusRegistry.findId("renamed")).isEqualTo(id);
+
+        service.delete(id);
+        assertThat(taskStatusRegistry.find("renamed")).isNull();
+        assertThat(taskStatusRegistry.findId(existing.getSlug())).isEqualTo(existing.getId());
+    }
+
+    @Test
+    public void testReadsDoNotFlush() {
+        var model = taskStatusRepository.saveAll(testModels).getFirst();
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        assertThat(service.getAll()).hasSize(testModels.size());
+        assertThat(service.getById(model.getId()).getSlug()).isEqualTo(model.getSlug());
+        assertThat(service.getBySlug(model.getSlug()).getName()).isEqualTo(model.getName());
+
+        assertThat(statistics.getFlushCount()).isZero();
+    }
+
     @Test
     public void testIndexWithAuthorization() throws Exception {
         taskStatusRepository.saveAll(testModels);
@@ -51,6 +51,7 @@ public class ModelGenerator {
     private Model<User> buildFullFieldsUserModel() {
         return Instancio.of(User.class)
                 .ignore(Select.field(User::getId))
+                .ignore(Select.field(User::getVersion))
                 .supply(Select.field(User::getFirstName), () -> faker.name().firstName())
                 .supply(Select.field(User::getLastName), () -> faker.name().lastName())
                 .supply(Select.field(User::getEmail), () -> "fullFields@model.com")
@@ -61,6 +62,7 @@ public class ModelGenerator {
     private Model<User> buildOnlyReqFieldsUserModel() {
         return Instancio.of(User.class)
                 .ignore(Select.field(User::getId))
+                .ignore(Select.field(User::getVersion))
                 .supply(Select.field(User::getEmail), () -> "onlyReqFields@model.com")
                 .supply(Select.field(User::getPassword), () -> generatePassword(3, 100))
                 .toModel();
@@ -69,6 +71,7 @@ public class ModelGenerator {
     private Model<User> buildNonValidDataInFieldsUserModel() {
         return Instancio.of(User.class)
                 .ignore(Select.field(User::getId))
+                .ignore(Select.field(User::getVersion))
                 .supply(Select.field(User::getEmail), () -> "asd.com")
                 .supply(Select.field(User::getPassword), () -> "qw")
                 .toModel();
@@ -78,12 +81,14 @@ public class ModelGenerator {
         return Instancio.ofList(TaskStatus.class)
                 .size(TASK_STATUS_MODELS_TO_GENERATE)
                 .ignore(Select.field(TaskStatus::getId))
+                .ignore(Select.field(TaskStatus::getVersion))
                 .toModel();
     }
 
     private Model<TaskStatus> buildDraftTestTaskStatus() {
         return Instancio.of(TaskStatus.class)
                 .ignore(Select.field(TaskStatus::getId))
+                .ignore(Select.field(TaskStatus::getVersion))
                 .supply(Select.field(TaskStatus::getName), () -> faker.name().title())
                 .supply(Select.field(TaskStatus::getSlug), () -> "draft_test")
                 .toModel();
@@ -92,6 +97,7 @@ public class ModelGenerator {
     private Model<TaskStatus> buildToReviewTestTaskStatus() {
         return Instancio.of(TaskStatus.class)
                 .ignore(Select.field(TaskStatus::getId))
+                .ignore(Select.field(TaskStatus::getVersion))
                 .supply(Select.field(TaskStatus::getName), () -> faker.name().title())
                 .supply(Select.field(TaskStatus::getSlug), () -> "to_review_test")
                 .toModel();
@@ -100,6 +106,7 @@ public class ModelGenerator {
     private Model<Task> buildTaskWithToReviewTaskStatus() {
         return Instancio.of(Task.class)
                 .ignore(Select.field(Task::getId))
+                .ignore(Select.field(Task::getVersion))
                 .supply(Select.field(Task::getAssignee), this::buildOnlyReqFieldsUserModel)
                 .supply(Select.field(Task::getTaskStatus), this::buildToReviewTestTaskStatus)
                 .toModel();
@@ -108,6 +115,7 @@ public class ModelGenerator {
     private Model<Task> buildTaskWithDraftTaskStatus() {
         return Instancio.of(Task.class)
                 .ignore(Select.field(Task::getId))
+                .ignore(Select.field(Task::getVersion))
                 .supply(Select.field(Task::getAssignee), this::buildOnlyReqFieldsUserModel)
                 .supply(Select.field(Task::getTaskStatus), this::buildDraftTestTaskStatus)
                 .toModel();
@@ -117,6 +125,7 @@ public class ModelGenerator {
         return Instancio.ofList(Label.class)
                 .size(count)
                 .ignore(Select.field(Label::getId))
+                .ignore(Select.field(Label::getVersion))
                 .supply(Select.field(Label::getName), () -> faker.gameOfThrones().character())
                 .toModel();
     }